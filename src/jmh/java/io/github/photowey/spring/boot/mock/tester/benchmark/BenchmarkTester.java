@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.benchmark;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.printer.PrintPolicy;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * {@code BenchmarkTester}
+ * <p>
+ * Exposes the request pipeline of the tester to the benchmarks, bound to the sample {@link App}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class BenchmarkTester extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private ConfigurableApplicationContext context;
+
+    private final boolean securityBypass;
+
+    public BenchmarkTester() {
+        this(false);
+    }
+
+    public BenchmarkTester(boolean securityBypass) {
+        this.securityBypass = securityBypass;
+    }
+
+    public void start() {
+        this.context = new SpringApplicationBuilder(App.class)
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run();
+        this.applicationContext = (WebApplicationContext) this.context;
+        this.mockMvc();
+    }
+
+    public void stop() {
+        if (null != this.context) {
+            this.context.close();
+        }
+    }
+
+    @Override
+    protected PrintPolicy printPolicy() {
+        // Measure the tester, not the console.
+        return PrintPolicy.NEVER;
+    }
+
+    @Override
+    protected boolean securityBypassEnabled() {
+        return this.securityBypass;
+    }
+
+    public String get(HelloQuery query) throws Exception {
+        return this.doGetRequest(query, METHODS_BASE_API + "/get");
+    }
+
+    public String post(HelloPayload payload) throws Exception {
+        return this.doPostRequest(payload, METHODS_BASE_API + "/post");
+    }
+
+    public ResultActions performGet(HelloQuery query) throws Exception {
+        return this.currentMockMvc().perform(MockMvcRequestBuilders
+                .get(METHODS_BASE_API + "/get")
+                .queryParam("name", query.getName()));
+    }
+}
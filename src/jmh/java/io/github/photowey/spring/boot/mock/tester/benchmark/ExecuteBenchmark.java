@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.benchmark;
+
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ExecuteBenchmark}
+ * <p>
+ * The full {@code execute()} round-trips against the sample {@code ApiController}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExecuteBenchmark {
+
+    private final BenchmarkTester tester = new BenchmarkTester();
+    private final HelloQuery query = new HelloQuery("photowey");
+    private final HelloPayload payload = new HelloPayload("photowey");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.tester.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.tester.stop();
+    }
+
+    @Benchmark
+    public String doGetRequest() throws Exception {
+        return this.tester.get(this.query);
+    }
+
+    @Benchmark
+    public String doPostRequest() throws Exception {
+        return this.tester.post(this.payload);
+    }
+}
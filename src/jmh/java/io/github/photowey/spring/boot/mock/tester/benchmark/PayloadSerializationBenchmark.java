@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.benchmark;
+
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PayloadSerializationBenchmark}
+ * <p>
+ * The payload serialization of {@code doPostRequest(payload, route)}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadSerializationBenchmark {
+
+    @Param({"8", "65536"})
+    private int nameLength;
+
+    private HelloPayload payload;
+
+    @Setup
+    public void setUp() {
+        StringBuilder name = new StringBuilder(this.nameLength);
+        for (int i = 0; i < this.nameLength; i++) {
+            name.append((char) ('a' + i % 26));
+        }
+
+        this.payload = new HelloPayload(name.toString());
+    }
+
+    @Benchmark
+    public String toJSONString() {
+        return JSON.Jackson.toJSONString(this.payload);
+    }
+}
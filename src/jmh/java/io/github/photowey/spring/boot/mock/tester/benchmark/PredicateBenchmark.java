@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.benchmark;
+
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.matcher.JsonPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code PredicateBenchmark}
+ * <p>
+ * The JSONPath evaluation of {@code defaultPredicate(actions)} against an already performed request.
+ * <p>
+ * The parsed document cached on the request is removed before every invocation, so each one measures the parsing and
+ * the evaluation of a fresh response instead of a cached lookup.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredicateBenchmark {
+
+    private final BenchmarkTester tester = new BenchmarkTester();
+
+    private ResultActions actions;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        this.tester.start();
+        this.actions = this.tester.performGet(new HelloQuery("photowey"));
+    }
+
+    @Setup(Level.Invocation)
+    public void clearDocument() {
+        this.actions.andReturn().getRequest().removeAttribute(JsonPaths.DOCUMENT_ATTRIBUTE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.tester.stop();
+    }
+
+    @Benchmark
+    public ResultActions defaultPredicate() {
+        this.tester.defaultPredicate(this.actions);
+
+        return this.actions;
+    }
+}
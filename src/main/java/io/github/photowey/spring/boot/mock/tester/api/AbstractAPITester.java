@@ -15,35 +15,94 @@
  */
 package io.github.photowey.spring.boot.mock.tester.api;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.async.AsyncDispatcher;
+import io.github.photowey.spring.boot.mock.tester.batch.BatchReport;
+import io.github.photowey.spring.boot.mock.tester.batch.BatchRequest;
+import io.github.photowey.spring.boot.mock.tester.binder.QueryBinder;
+import io.github.photowey.spring.boot.mock.tester.cache.MockMvcCache;
+import io.github.photowey.spring.boot.mock.tester.cache.PayloadCache;
 import io.github.photowey.spring.boot.mock.tester.constant.ApiConstants;
+import io.github.photowey.spring.boot.mock.tester.context.ContextCacheReportingListener;
 import io.github.photowey.spring.boot.mock.tester.domain.query.DefaultQuery;
+import io.github.photowey.spring.boot.mock.tester.load.LatencyHistogram;
+import io.github.photowey.spring.boot.mock.tester.load.LoadTestReport;
+import io.github.photowey.spring.boot.mock.tester.matcher.JsonPathMatchers;
+import io.github.photowey.spring.boot.mock.tester.metrics.LatencyBudget;
+import io.github.photowey.spring.boot.mock.tester.metrics.MicrometerRequestMetricsListener;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestMetricsListener;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestMetricsListeners;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestPhase;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestTimingFilter;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestTimings;
+import io.github.photowey.spring.boot.mock.tester.printer.AsyncPrintSink;
+import io.github.photowey.spring.boot.mock.tester.printer.PrintPolicy;
+import io.github.photowey.spring.boot.mock.tester.printer.TruncatingPrintingResultHandler;
+import io.github.photowey.spring.boot.mock.tester.response.ResponseBody;
+import io.github.photowey.spring.boot.mock.tester.security.MockUser;
+import io.github.photowey.spring.boot.mock.tester.security.MockUsers;
+import io.github.photowey.spring.boot.mock.tester.security.PermitAllBypassFilter;
+import io.github.photowey.spring.boot.mock.tester.security.SecurityContexts;
+import io.github.photowey.spring.boot.mock.tester.snapshot.SnapshotNormalizer;
+import io.github.photowey.spring.boot.mock.tester.snapshot.SnapshotStore;
+import io.github.photowey.spring.boot.mock.tester.stream.ServerSentEvent;
+import io.github.photowey.spring.boot.mock.tester.stream.StreamCaptureFilter;
+import io.github.photowey.spring.boot.mock.tester.stream.StreamingResult;
+import io.github.photowey.spring.boot.mock.tester.template.RequestTemplate;
+import io.github.photowey.spring.boot.mock.tester.traffic.ReplayReport;
+import io.github.photowey.spring.boot.mock.tester.traffic.TrafficLog;
+import io.github.photowey.spring.boot.mock.tester.traffic.TrafficRecorder;
+import io.github.photowey.spring.boot.mock.tester.traffic.TrafficReplayer;
+import io.github.photowey.spring.boot.mock.tester.transport.RealServerTransport;
+import io.github.photowey.spring.boot.mock.tester.warmup.WarmupReport;
+import io.github.photowey.spring.boot.mock.tester.warmup.Warmups;
 import io.github.photowey.spring.infras.common.json.JSON;
-import org.assertj.core.util.Lists;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
-import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.test.web.servlet.setup.DefaultMockMvcBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
-import org.springframework.util.ReflectionUtils;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.HandlerMapping;
 
 import javax.servlet.Filter;
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
-import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -53,6 +112,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * @date 2024/03/22
  * @since 1.0.0
  */
+@TestExecutionListeners(listeners = ContextCacheReportingListener.class, mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
 public abstract class AbstractAPITester {
 
     /**
@@ -66,20 +126,45 @@ public abstract class AbstractAPITester {
 
     public static final String HEALTH_API = "/healthz";
 
+    /**
+     * The default maximum number of characters printed for a single value.
+     */
+    public static final int DEFAULT_PRINT_BODY_LIMIT = 16 * 1024;
+
+    /**
+     * The default maximum time to wait for the async result of a request.
+     */
+    public static final Duration DEFAULT_ASYNC_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final String LOCAL_SERVER_PORT = "local.server.port";
+    private static final String CONTEXT_PATH = "server.servlet.context-path";
+    private static final Decoder<MvcResult> RESULT_DECODER = (result) -> result;
+
     @Autowired
     protected WebApplicationContext applicationContext;
 
     protected MockMvc mockMvc;
 
+    private final ThreadLocal<MockMvc> localMockMvc = new ThreadLocal<>();
+    private final ThreadLocal<RequestTimings> pendingTimings = new ThreadLocal<>();
+    private final ThreadLocal<RequestTimings> lastTimings = new ThreadLocal<>();
+
     @BeforeEach
     void setUp() {
+        if (this.concurrentEnabled()) {
+            SecurityContexts.clear();
+        }
+
         this.mockMvc();
         this.mockUser();
+        this.warmup();
     }
 
     @AfterEach
     void tearDown() {
-
+        if (this.concurrentEnabled()) {
+            SecurityContexts.clear();
+        }
     }
 
     /**
@@ -91,19 +176,251 @@ public abstract class AbstractAPITester {
         return true;
     }
 
+    /**
+     * Determines if the built {@link MockMvc} is cached and shared across tests.
+     * <p>
+     * The cache is keyed by the identity of the {@link WebApplicationContext}, the {@link #securityEnabled()} flag
+     * and the {@link #filters()} and is invalidated once the context is refreshed or closed.
+     * Override it and return false to rebuild the {@link MockMvc} before every test.
+     *
+     * @return true if the {@link MockMvc} is cached, false otherwise.
+     */
+    protected boolean mockMvcCacheEnabled() {
+        return true;
+    }
+
+    /**
+     * Determines if the tests of this class are executed concurrently.
+     * <p>
+     * e.g.: JUnit 5 {@code junit.jupiter.execution.parallel.enabled=true} with {@code @TestInstance(Lifecycle.PER_CLASS)}.
+     * <p>
+     * In the concurrent mode, every worker thread gets its own {@link MockMvc}, resolved by {@link #currentMockMvc()}
+     * instead of the shared {@link #mockMvc} field, and the {@code SecurityContext} of the worker thread is cleared
+     * before and after every test, so the one populated by {@link #mockUser()} does not leak into other tests.
+     *
+     * @return true if the tests are executed concurrently, false otherwise.
+     */
+    protected boolean concurrentEnabled() {
+        return false;
+    }
+
+    /**
+     * Determines if the serialized bytes of the request payloads are cached, keyed by the identity of the payload.
+     * <p>
+     * Only enable it if the shared fixture payloads are never modified after their first request,
+     * see {@link PayloadCache}.
+     *
+     * @return true if the payload cache is enabled, false otherwise.
+     */
+    protected boolean payloadCacheEnabled() {
+        return false;
+    }
+
+    /**
+     * Determines if the Spring Security filter chain is skipped for the anonymous requests that are known to be
+     * {@code permitAll}, see {@link PermitAllBypassFilter}.
+     *
+     * @return true if the permit-all requests bypass the security filter chain, false otherwise.
+     */
+    protected boolean securityBypassEnabled() {
+        return false;
+    }
+
+    /**
+     * Determines if the requests are sent over loopback to the embedded server instead of the {@link MockMvc}.
+     * <p>
+     * Requires a running server, e.g.: {@code @SpringBootTest(webEnvironment = RANDOM_PORT)}. The same requests,
+     * matchers and predicates are used, but the servlet container(connection handling, thread pools,
+     * compression, keep-alive) and its own filter chain are exercised, e.g.: to measure the real throughput with
+     * {@link #loadTest(HttpMethod, String, Object, int, int)}. The mocked {@code SecurityContext} of
+     * {@link #mockUser()} does not reach the server, see {@link RealServerTransport}.
+     *
+     * @return true if the requests are sent to the embedded server, false otherwise.
+     */
+    protected boolean realServerEnabled() {
+        return false;
+    }
+
+    /**
+     * Retrieves the base URL of the embedded server, see {@link #realServerEnabled()}.
+     *
+     * @return The base URL, default is: {@code http://localhost:${local.server.port}${server.servlet.context-path}}
+     */
+    protected String serverBaseUrl() {
+        Environment environment = this.applicationContext.getEnvironment();
+        String port = environment.getProperty(LOCAL_SERVER_PORT);
+        Assert.state(null != port, "The embedded server is not running, use @SpringBootTest(webEnvironment = RANDOM_PORT)");
+
+        return "http://localhost:" + port + environment.getProperty(CONTEXT_PATH, "");
+    }
+
+    /**
+     * Retrieves the file every executed call is recorded to, see {@link TrafficRecorder} and {@link #replay(Path)}.
+     *
+     * @return The traffic log file, or null if the calls are not recorded.
+     */
+    protected Path trafficRecordFile() {
+        return null;
+    }
+
+    /**
+     * Retrieves the listeners notified with the {@link RequestTimings} of every request.
+     * <p>
+     * If there is any, the registered filters are bracketed by the {@link RequestTimingFilter}s, so the time spent
+     * in the filter chain(e.g.: Spring Security) is told apart from the handler dispatch.
+     *
+     * @return The listeners, e.g.: a {@link MicrometerRequestMetricsListener}.
+     */
+    protected List<RequestMetricsListener> requestMetricsListeners() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Retrieves the timings of the last request executed by the current thread.
+     *
+     * @return The timings, or null if no request has been executed yet.
+     */
+    protected RequestTimings lastTimings() {
+        return this.lastTimings.get();
+    }
+
     protected void mockMvc() {
-        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup(applicationContext);
+        if (this.concurrentEnabled()) {
+            this.localMockMvc.set(this.resolveLocalMockMvc());
+            return;
+        }
+
+        if (!this.mockMvcCacheEnabled()) {
+            this.mockMvc = this.buildMockMvc();
+            return;
+        }
+
+        List<Filter> filters = this.filters();
+        this.mockMvc = MockMvcCache.get(this.applicationContext, this.securityEnabled(), filters, () -> this.buildMockMvc(filters));
+    }
+
+    /**
+     * Retrieves the {@link MockMvc} that executes the requests of the current thread.
+     *
+     * @return The {@link MockMvc} of the current thread in the concurrent mode, the {@link #mockMvc} field otherwise.
+     */
+    protected MockMvc currentMockMvc() {
+        if (!this.concurrentEnabled()) {
+            return this.mockMvc;
+        }
+
+        MockMvc local = this.localMockMvc.get();
+        if (null == local) {
+            local = this.resolveLocalMockMvc();
+            this.localMockMvc.set(local);
+        }
+
+        return local;
+    }
+
+    private MockMvc resolveLocalMockMvc() {
+        if (!this.mockMvcCacheEnabled()) {
+            return this.buildMockMvc();
+        }
+
+        List<Filter> filters = this.filters();
+
+        return MockMvcCache.getLocal(this.applicationContext, this.securityEnabled(), filters, () -> this.buildMockMvc(filters));
+    }
+
+    /**
+     * Builds a new {@link MockMvc} instance bound to the {@link #applicationContext}.
+     *
+     * @return The new {@link MockMvc} instance.
+     */
+    protected MockMvc buildMockMvc() {
+        return this.buildMockMvc(this.filters());
+    }
+
+    private MockMvc buildMockMvc(List<Filter> filters) {
+        DefaultMockMvcBuilder builder = MockMvcBuilders.webAppContextSetup(this.applicationContext);
+        for (Filter filter : filters) {
+            builder.addFilter(filter);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Retrieves the filters registered on the {@link MockMvc}.
+     *
+     * @return The filters, the Spring Security filter chain is included if security is enabled.
+     */
+    protected List<Filter> filters() {
+        List<Filter> filters = new ArrayList<>(4);
+        boolean timing = !this.requestMetricsListeners().isEmpty();
+        if (timing) {
+            filters.add(RequestTimingFilter.outer());
+        }
         if (this.securityEnabled()) {
-            builder.addFilter(this.springSecurityFilterChain());
+            Filter security = this.springSecurityFilterChain();
+            filters.add(this.securityBypassEnabled() ? PermitAllBypassFilter.of(security) : security);
         }
+        if (timing) {
+            filters.add(RequestTimingFilter.inner());
+        }
+        filters.add(StreamCaptureFilter.instance());
 
-        this.mockMvc = builder.build();
+        return filters;
     }
 
     protected void mockUser() {
 
     }
 
+    /**
+     * Retrieves the name of the {@link MockUser} every request is executed as, unless overridden per request by
+     * {@link #asUser(String)}.
+     *
+     * @return The name of a user registered into {@link MockUsers}, or null to execute the requests anonymously.
+     */
+    protected String defaultMockUser() {
+        return null;
+    }
+
+    /**
+     * Executes a request as the given {@link MockUser}, e.g.:
+     * {@code this.doGetRequest(query, route, this.asUser("admin"), this::defaultPredicate)}
+     *
+     * @param name The name of a user registered into {@link MockUsers}.
+     * @return A consumer interface applying the cached {@code SecurityContext} of the user to the request.
+     */
+    protected Consumer<MockHttpServletRequestBuilder> asUser(String name) {
+        RequestPostProcessor processor = MockUsers.with(name);
+
+        return (requestBuilder) -> requestBuilder.with(processor);
+    }
+
+    protected void warmup() {
+        try {
+            Warmups.warmup(this.applicationContext, this.currentMockMvc(), this.warmupRoutes(), this.warmupIterations(),
+                    this::newWarmupRequestBuilder);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to warm up the routes: " + this.warmupRoutes(), e);
+        }
+    }
+
+    /**
+     * Creates the GET request of a warm-up route, built like the timed requests(e.g.: with the
+     * {@link #defaultMockUser()}), so the warm-up reaches the handler instead of being rejected by the security
+     * filter chain.
+     *
+     * @param route The route.
+     * @return The request builder.
+     */
+    protected MockHttpServletRequestBuilder newWarmupRequestBuilder(String route) {
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(HttpMethod.GET, null, route);
+        // The warm-up requests are not timed.
+        this.pendingTimings.remove();
+
+        return requestBuilder;
+    }
+
     // ----------------------------------------------------------------
 
     /**
@@ -154,6 +471,24 @@ public abstract class AbstractAPITester {
         return "$.code";
     }
 
+    /**
+     * Determines when the request and response of an executed request are printed.
+     *
+     * @return The print policy, default is: {@link PrintPolicy#ALWAYS}
+     */
+    protected PrintPolicy printPolicy() {
+        return PrintPolicy.ALWAYS;
+    }
+
+    /**
+     * Returns the maximum number of characters printed for a single value(e.g.: a body), a negative value disables truncation.
+     *
+     * @return The maximum number of printed characters, default is: 16384
+     */
+    protected int printBodyLimit() {
+        return DEFAULT_PRINT_BODY_LIMIT;
+    }
+
     /**
      * Retrieves the health API endpoint.
      *
@@ -163,6 +498,46 @@ public abstract class AbstractAPITester {
         return HEALTH_API;
     }
 
+    /**
+     * Retrieves the maximum time to wait for the async result of a request.
+     *
+     * @return The async timeout.
+     */
+    protected Duration asyncTimeout() {
+        return DEFAULT_ASYNC_TIMEOUT;
+    }
+
+    /**
+     * Retrieves the routes warmed up before the tests, with GET requests built by
+     * {@link #newWarmupRequestBuilder(String)}. Every warm-up response must be {@code 2xx}.
+     *
+     * @return The routes, the {@link #healthApi()} by default.
+     */
+    protected List<String> warmupRoutes() {
+        return Collections.singletonList(this.healthApi());
+    }
+
+    /**
+     * Retrieves the number of warm-up requests per route.
+     * <p>
+     * The warm-up runs once per application context and route, before the first test,
+     * so the first timed request does not pay for the class loading and the lazy initializations.
+     *
+     * @return The number of warm-up requests, 0 disables the warm-up.
+     */
+    protected int warmupIterations() {
+        return 0;
+    }
+
+    /**
+     * Retrieves the report of the last warm-up of the application context.
+     *
+     * @return The report, or null if the context has not been warmed up.
+     */
+    protected WarmupReport warmupReport() {
+        return Warmups.report(this.applicationContext);
+    }
+
     // ---------------------------------------------------------------- Health API
 
     /**
@@ -172,12 +547,10 @@ public abstract class AbstractAPITester {
      * @throws Exception If an error occurs during the request process.
      */
     protected String tryGetHealth() throws Exception {
-        return this.mockMvc.perform(MockMvcRequestBuilders.get(this.healthApi()))
-                .andExpect(status().isOk())
-                .andDo(print())
-                .andReturn()
-                .getResponse()
-                .getContentAsString(StandardCharsets.UTF_8);
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.get(this.healthApi());
+        this.applyDefaultMockUser(requestBuilder);
+
+        return this.execute(requestBuilder, this::emptyPredicate);
     }
 
     /**
@@ -186,7 +559,10 @@ public abstract class AbstractAPITester {
      * @throws Exception If an error occurs during the request process or if the returned status is not OK (200).
      */
     protected void tryHeadHealth() throws Exception {
-        this.mockMvc.perform(MockMvcRequestBuilders.head(this.healthApi()))
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders.head(this.healthApi());
+        this.applyDefaultMockUser(requestBuilder);
+
+        this.perform(this.currentMockMvc(), requestBuilder)
                 .andExpect(status().isOk());
     }
 
@@ -298,20 +674,91 @@ public abstract class AbstractAPITester {
             Consumer<MockHttpServletRequestBuilder> fn,
             Consumer<ResultActions> fx) throws Exception {
 
-        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
-                .post(route)
-                .contentType(MediaType.APPLICATION_JSON_VALUE);
-
-        if (isNotEmpty(payload)) {
-            String body = JSON.Jackson.toJSONString(payload);
-            requestBuilder.content(body);
-        }
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(HttpMethod.POST, payload, route);
 
         fn.accept(requestBuilder);
 
         return this.execute(requestBuilder, fx);
     }
 
+    /**
+     * Executes a POST request and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T, R> R doPostRequest(T payload, String route, Class<R> type) throws Exception {
+        return this.doPostRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a POST request and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T, R> R doPostRequest(T payload, String route, TypeReference<R> type) throws Exception {
+        return this.doPostRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a POST request with customized setup and result processing,
+     * and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doPostRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            Class<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.POST, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
+    /**
+     * Executes a POST request with customized setup and result processing,
+     * and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doPostRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            TypeReference<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.POST, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
     // ---------------------------------------------------------------- Put
 
     /**
@@ -420,65 +867,136 @@ public abstract class AbstractAPITester {
             Consumer<MockHttpServletRequestBuilder> fn,
             Consumer<ResultActions> fx) throws Exception {
 
-        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
-                .put(route)
-                .contentType(MediaType.APPLICATION_JSON_VALUE);
-
-        if (isNotEmpty(payload)) {
-            String body = JSON.Jackson.toJSONString(payload);
-            requestBuilder.content(body);
-        }
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(HttpMethod.PUT, payload, route);
 
         fn.accept(requestBuilder);
 
         return this.execute(requestBuilder, fx);
     }
 
-    // ---------------------------------------------------------------- Patch
-
     /**
-     * Executes a PATCH request without a request body.
+     * Executes a PUT request and deserializes the response body into the given type.
      *
-     * @param route The route or URL of the request.
-     * @return The content of the response.
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
      * @throws Exception If an error occurs during the request process.
      */
-    protected String doPatchRequest(String route) throws Exception {
-        return this.doPatchRequest(null, route);
+    protected <T, R> R doPutRequest(T payload, String route, Class<R> type) throws Exception {
+        return this.doPutRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
     }
 
     /**
-     * Executes a PATCH request with additional operation or assertion on the result.
+     * Executes a PUT request and deserializes the response body into the given generic type.
      *
-     * @param route The target route or URL for the request.
-     * @param fx    A functional interface for further operating or asserting on the request result.
-     * @return The result after calling the overloaded method internally.
-     * @throws Exception If an error occurs during the request process or while processing the result.
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
      */
-    protected String doPatchRequest(String route, Consumer<ResultActions> fx) throws Exception {
-        return this.doPatchRequest(null, route, fx);
+    protected <T, R> R doPutRequest(T payload, String route, TypeReference<R> type) throws Exception {
+        return this.doPutRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
     }
 
     /**
-     * Executes a PATCH request with customized request setup.
+     * Executes a PUT request with customized setup and result processing,
+     * and deserializes the response body into the given type.
      *
-     * @param route The path of the request.
-     * @param fx    A consumer interface for modifying the request builder.
-     * @return A string representation of the response.
-     * @throws Exception If an error occurs during the request process.
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
      */
-    protected String doPatchRequestB(String route, Consumer<MockHttpServletRequestBuilder> fx) throws Exception {
-        return this.doPatchRequestB(null, route, fx);
+    protected <T, R> R doPutRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            Class<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.PUT, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
     }
 
     /**
-     * Executes a PATCH request with both customized setup and result processing.
+     * Executes a PUT request with customized setup and result processing,
+     * and deserializes the response body into the given generic type.
      *
-     * @param route The path of the request.
-     * @param fn    A consumer interface for modifying the request builder.
-     * @param fx    A consumer interface for further operating or asserting on the request result.
-     * @return A string representing the response result of the request.
-     * @throws Exception If an error occurs during the request process or while processing the result.
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doPutRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            TypeReference<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.PUT, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
+    // ---------------------------------------------------------------- Patch
+
+    /**
+     * Executes a PATCH request without a request body.
+     *
+     * @param route The route or URL of the request.
+     * @return The content of the response.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected String doPatchRequest(String route) throws Exception {
+        return this.doPatchRequest(null, route);
+    }
+
+    /**
+     * Executes a PATCH request with additional operation or assertion on the result.
+     *
+     * @param route The target route or URL for the request.
+     * @param fx    A functional interface for further operating or asserting on the request result.
+     * @return The result after calling the overloaded method internally.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected String doPatchRequest(String route, Consumer<ResultActions> fx) throws Exception {
+        return this.doPatchRequest(null, route, fx);
+    }
+
+    /**
+     * Executes a PATCH request with customized request setup.
+     *
+     * @param route The path of the request.
+     * @param fx    A consumer interface for modifying the request builder.
+     * @return A string representation of the response.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected String doPatchRequestB(String route, Consumer<MockHttpServletRequestBuilder> fx) throws Exception {
+        return this.doPatchRequestB(null, route, fx);
+    }
+
+    /**
+     * Executes a PATCH request with both customized setup and result processing.
+     *
+     * @param route The path of the request.
+     * @param fn    A consumer interface for modifying the request builder.
+     * @param fx    A consumer interface for further operating or asserting on the request result.
+     * @return A string representing the response result of the request.
+     * @throws Exception If an error occurs during the request process or while processing the result.
      */
     protected String doPatchRequest(String route, Consumer<MockHttpServletRequestBuilder> fn, Consumer<ResultActions> fx) throws Exception {
         return this.doPatchRequest(null, route, fn, fx);
@@ -542,20 +1060,91 @@ public abstract class AbstractAPITester {
             Consumer<MockHttpServletRequestBuilder> fn,
             Consumer<ResultActions> fx) throws Exception {
 
-        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
-                .patch(route)
-                .contentType(MediaType.APPLICATION_JSON_VALUE);
-
-        if (isNotEmpty(payload)) {
-            String body = JSON.Jackson.toJSONString(payload);
-            requestBuilder.content(body);
-        }
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(HttpMethod.PATCH, payload, route);
 
         fn.accept(requestBuilder);
 
         return this.execute(requestBuilder, fx);
     }
 
+    /**
+     * Executes a PATCH request and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T, R> R doPatchRequest(T payload, String route, Class<R> type) throws Exception {
+        return this.doPatchRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a PATCH request and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T, R> R doPatchRequest(T payload, String route, TypeReference<R> type) throws Exception {
+        return this.doPatchRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a PATCH request with customized setup and result processing,
+     * and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doPatchRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            Class<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.PATCH, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
+    /**
+     * Executes a PATCH request with customized setup and result processing,
+     * and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doPatchRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            TypeReference<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.PATCH, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
     // ---------------------------------------------------------------- Delete
 
     /**
@@ -664,20 +1253,91 @@ public abstract class AbstractAPITester {
             Consumer<MockHttpServletRequestBuilder> fn,
             Consumer<ResultActions> fx) throws Exception {
 
-        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
-                .delete(route)
-                .contentType(MediaType.APPLICATION_JSON_VALUE);
-
-        if (isNotEmpty(payload)) {
-            String body = JSON.Jackson.toJSONString(payload);
-            requestBuilder.content(body);
-        }
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(HttpMethod.DELETE, payload, route);
 
         fn.accept(requestBuilder);
 
         return this.execute(requestBuilder, fx);
     }
 
+    /**
+     * Executes a DELETE request and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T, R> R doDeleteRequest(T payload, String route, Class<R> type) throws Exception {
+        return this.doDeleteRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a DELETE request and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T, R> R doDeleteRequest(T payload, String route, TypeReference<R> type) throws Exception {
+        return this.doDeleteRequest(payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a DELETE request with customized setup and result processing,
+     * and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doDeleteRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            Class<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.DELETE, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
+    /**
+     * Executes a DELETE request with customized setup and result processing,
+     * and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T, R> R doDeleteRequest(
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            TypeReference<R> type) throws Exception {
+
+        return this.doRequestFor(HttpMethod.DELETE, payload, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
+
     // ---------------------------------------------------------------- Get
 
     /**
@@ -786,107 +1446,1051 @@ public abstract class AbstractAPITester {
             Consumer<MockHttpServletRequestBuilder> fn,
             Consumer<ResultActions> fx) throws Exception {
 
-        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders
-                .get(route)
-                .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
-
-        if (isNotEmpty(query)) {
-            MultiValueMap<String, String> params = this.getMultiValueMap(query);
-            builder.queryParams(params);
-        }
+        MockHttpServletRequestBuilder builder = this.newRequestBuilder(HttpMethod.GET, query, route);
 
         fn.accept(builder);
 
         return this.execute(builder, fx);
     }
 
-    // ---------------------------------------------------------------- Exec
+    /**
+     * Executes a GET request and deserializes the response body into the given type.
+     *
+     * @param query   The query parameters of the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <Q>     The type of the query.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <Q, R> R doGetRequest(Q query, String route, Class<R> type) throws Exception {
+        return this.doGetRequest(query, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
 
     /**
-     * Executes an HTTP request using MockMvc framework and performs additional operations or assertions on the result.
+     * Executes a GET request and deserializes the response body into the given generic type.
      *
-     * @param requestBuilder The request builder object representing the HTTP request to be executed.
-     * @param fx             A consumer interface for further operating or asserting on the request result.
-     * @return A string representing the content of the response.
+     * @param query   The query parameters of the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @param <Q>     The type of the query.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
      * @throws Exception If an error occurs during the request process.
      */
-    protected String execute(
-            MockHttpServletRequestBuilder requestBuilder,
-            Consumer<ResultActions> fx) throws Exception {
+    protected <Q, R> R doGetRequest(Q query, String route, TypeReference<R> type) throws Exception {
+        return this.doGetRequest(query, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a GET request with customized setup and result processing,
+     * and deserializes the response body into the given type.
+     *
+     * @param query   The query parameters of the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type of the response body.
+     * @param <Q>     The type of the query.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <Q, R> R doGetRequest(
+            Q query,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            Class<R> type) throws Exception {
 
-        ResultActions actions = this.mockMvc.perform(requestBuilder).andExpect(status().isOk());
-        fx.accept(actions);
+        return this.doRequestFor(HttpMethod.GET, query, route, fn, fx, (result) -> new ResponseBody(result).as(type));
+    }
 
-        String content = actions.andDo(print())
-                .andReturn()
-                .getResponse()
-                .getContentAsString(StandardCharsets.UTF_8);
+    /**
+     * Executes a GET request with customized setup and result processing,
+     * and deserializes the response body into the given generic type.
+     *
+     * @param query   The query parameters of the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param type    The type reference of the response body.
+     * @param <Q>     The type of the query.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <Q, R> R doGetRequest(
+            Q query,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            TypeReference<R> type) throws Exception {
 
-        return content;
+        return this.doRequestFor(HttpMethod.GET, query, route, fn, fx, (result) -> new ResponseBody(result).as(type));
     }
 
-    // ---------------------------------------------------------------- Query
+    // ---------------------------------------------------------------- Body
 
     /**
-     * Generates a MultiValueMap of query parameters from the provided query object.
+     * Executes a request and returns a lazy view of the response body, e.g.: for large export endpoints.
      *
-     * @param query The query object from which the query parameters are extracted.
-     * @param <Q>   The type of the query object.
-     * @return A MultiValueMap containing the extracted query parameters.
-     * @throws IllegalAccessException If access to a field is denied by the security manager.
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return A lazy view of the response body, see {@link ResponseBody#bytes()}, {@link ResponseBody#stream()} and
+     * {@link ResponseBody#as(Class)}.
+     * @throws Exception If an error occurs during the request process.
      */
-    private <Q> MultiValueMap<String, String> getMultiValueMap(Q query) throws IllegalAccessException {
-        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+    protected <T> ResponseBody doRequestForBody(HttpMethod method, T payload, String route) throws Exception {
+        return this.doRequestForBody(method, payload, route, this::emptyBuilder, this::defaultPredicate);
+    }
 
-        if (null == query || query instanceof DefaultQuery) {
-            return params;
-        }
+    /**
+     * Executes a request with customized setup and result processing, and returns a lazy view of the response body.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param <T>     The type of the payload.
+     * @return A lazy view of the response body.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected <T> ResponseBody doRequestForBody(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx) throws Exception {
 
-        Class<?> clazz = query.getClass();
-        while (Object.class != clazz) {
-            Field[] declaredFields = clazz.getDeclaredFields();
-            for (Field declaredField : declaredFields) {
-                if (Modifier.isStatic(declaredField.getModifiers())) {
-                    continue;
-                }
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(method, payload, route);
 
-                ReflectionUtils.makeAccessible(declaredField);
-                Object v = declaredField.get(query);
-                if (isNotEmpty(v)) {
-                    params.put(declaredField.getName(), Lists.newArrayList(String.valueOf(v)));
-                }
-            }
+        fn.accept(requestBuilder);
 
-            clazz = clazz.getSuperclass();
-        }
+        return this.executeForBody(requestBuilder, fx);
+    }
+
+    private <T, R> R doRequestFor(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            Decoder<R> decoder) throws Exception {
+
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(method, payload, route);
+
+        fn.accept(requestBuilder);
 
-        return params;
+        return this.executeResult(this.currentMockMvc(), requestBuilder, fx, decoder);
     }
 
-    // ----------------------------------------------------------------
+    // ---------------------------------------------------------------- Async
 
     /**
-     * Empty builder method.
+     * Executes a request without blocking on the async processing of the handler.
      *
-     * @param builder The builder object.
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return A future of the lazy view of the response body.
+     * @throws Exception If an error occurs during the initial dispatch.
+     * @see #executeAsync(MockHttpServletRequestBuilder, Consumer)
      */
-    public void emptyBuilder(MockHttpServletRequestBuilder builder) {}
+    protected <T> CompletableFuture<ResponseBody> doAsyncRequest(HttpMethod method, T payload, String route) throws Exception {
+        return this.doAsyncRequest(method, payload, route, this::emptyBuilder, this::defaultPredicate);
+    }
 
     /**
-     * Default predicate for result actions.
+     * Executes a request with customized setup and result processing, without blocking on the async processing
+     * of the handler.
      *
-     * @param actions The result actions object.
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param <T>     The type of the payload.
+     * @return A future of the lazy view of the response body.
+     * @throws Exception If an error occurs during the initial dispatch.
      */
-    public void defaultPredicate(ResultActions actions) {
-        try {
-            actions.andExpect(MockMvcResultMatchers.jsonPath(this.okPattern()).value(this.apiOk()));
-        } catch (Exception e) {
+    protected <T> CompletableFuture<ResponseBody> doAsyncRequest(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx) throws Exception {
+
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(method, payload, route);
+
+        fn.accept(requestBuilder);
+
+        return this.executeAsync(requestBuilder, fx).thenApply(ResponseBody::new);
+    }
+
+    // ---------------------------------------------------------------- Stream
+
+    /**
+     * Executes a request to a streaming endpoint, e.g.: a {@code SseEmitter} or a {@code StreamingResponseBody},
+     * and waits for the end of the stream, up to the {@link #asyncTimeout()}.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The captured stream, e.g.: {@code result.expectFirstEventWithin(...).expectCount(...)}
+     * @throws Exception If an error occurs during the request process.
+     * @see #doStreamRequest(HttpMethod, Object, String, Consumer, Consumer, StreamingResult)
+     */
+    protected <T> StreamingResult doStreamRequest(HttpMethod method, T payload, String route) throws Exception {
+        return this.doStreamRequest(method, payload, route, this::emptyBuilder, this::emptyPredicate, StreamingResult.of());
+    }
+
+    /**
+     * Executes a request to a streaming endpoint and passes every event to the listener as it arrives.
+     * The events are not retained, so long streams do not pile up in memory.
+     *
+     * @param method   The HTTP method.
+     * @param payload  The payload or the query parameters, may be null.
+     * @param route    The route or URL of the request.
+     * @param listener The listener invoked with every event, on the thread of the handler.
+     * @param <T>      The type of the payload.
+     * @return The captured stream.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T> StreamingResult doStreamRequest(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<ServerSentEvent> listener) throws Exception {
+
+        return this.doStreamRequest(method, payload, route, this::emptyBuilder, this::emptyPredicate, StreamingResult.of(listener, false));
+    }
+
+    /**
+     * Executes a request to a streaming endpoint with customized setup and result processing.
+     * <p>
+     * The response body is captured by the {@link StreamCaptureFilter} as it is written: {@code text/event-stream}
+     * responses are parsed incrementally, and the body is not buffered in the {@code MockHttpServletResponse},
+     * so {@code fx} can assert on the status and the headers but not on the content.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request builder.
+     * @param fx      A consumer interface for further operating or asserting on the request result.
+     * @param result  The result that captures the stream, see {@link StreamingResult#of(Consumer, boolean)}.
+     * @param <T>     The type of the payload.
+     * @return The captured stream.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected <T> StreamingResult doStreamRequest(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx,
+            StreamingResult result) throws Exception {
+
+        MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(method, payload, route);
+        requestBuilder.requestAttr(StreamingResult.ATTRIBUTE, result);
+
+        fn.accept(requestBuilder);
+
+        this.executeResult(requestBuilder, fx);
+        result.complete();
+
+        return result;
+    }
+
+    // ---------------------------------------------------------------- Template
+
+    /**
+     * Executes the request described by the given template.
+     *
+     * @param template The request template.
+     * @param uriVars  The variables to expand the route template with.
+     * @return The content of the response.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected String doRequest(RequestTemplate template, Object... uriVars) throws Exception {
+        return this.doRequest(template, this::defaultPredicate, uriVars);
+    }
+
+    /**
+     * Executes the request described by the given template with additional operation or assertion on the result.
+     *
+     * @param template The request template.
+     * @param fx       A consumer interface for further operating or asserting on the request result.
+     * @param uriVars  The variables to expand the route template with.
+     * @return The content of the response.
+     * @throws Exception If an error occurs during the request process or while processing the result.
+     */
+    protected String doRequest(RequestTemplate template, Consumer<ResultActions> fx, Object... uriVars) throws Exception {
+        MockHttpServletRequestBuilder requestBuilder = template.toRequestBuilder(uriVars);
+        this.applyDefaultMockUser(requestBuilder);
+
+        return this.execute(requestBuilder, fx);
+    }
+
+    // ---------------------------------------------------------------- Builder
+
+    /**
+     * Creates a new request builder.
+     * <p>
+     * The payload of a GET request is bound to the query parameters, the payload of the other requests is serialized
+     * to the JSON body.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The request builder.
+     */
+    protected <T> MockHttpServletRequestBuilder newRequestBuilder(HttpMethod method, T payload, String route) {
+        long begin = System.nanoTime();
+        RequestTimings timings = new RequestTimings(method, route);
+        // Picked up by the next execution of the current thread.
+        this.pendingTimings.set(timings);
+
+        if (HttpMethod.GET == method) {
+            MockHttpServletRequestBuilder builder = MockMvcRequestBuilders
+                    .get(route)
+                    .contentType(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+
+            if (isNotEmpty(payload)) {
+                MultiValueMap<String, String> params = this.getMultiValueMap(payload);
+                builder.queryParams(params);
+            }
+
+            this.applyDefaultMockUser(builder);
+            timings.record(RequestPhase.BUILD, System.nanoTime() - begin);
+
+            return builder;
+        }
+
+        MockHttpServletRequestBuilder requestBuilder = MockMvcRequestBuilders
+                .request(method, route)
+                .contentType(MediaType.APPLICATION_JSON_VALUE);
+
+        long serialization = 0;
+        if (isNotEmpty(payload)) {
+            long serializeBegin = System.nanoTime();
+            if (this.payloadCacheEnabled()) {
+                requestBuilder.content(PayloadCache.get(payload, JSON.Jackson::toBytes));
+            } else {
+                String body = JSON.Jackson.toJSONString(payload);
+                requestBuilder.content(body);
+            }
+            serialization = System.nanoTime() - serializeBegin;
+        }
+
+        this.applyDefaultMockUser(requestBuilder);
+        timings.record(RequestPhase.SERIALIZE, serialization);
+        timings.record(RequestPhase.BUILD, System.nanoTime() - begin - serialization);
+
+        return requestBuilder;
+    }
+
+    private void applyDefaultMockUser(MockHttpServletRequestBuilder requestBuilder) {
+        String user = this.defaultMockUser();
+        if (null != user) {
+            requestBuilder.with(MockUsers.with(user));
+        }
+    }
+
+    // ---------------------------------------------------------------- Exec
+
+    /**
+     * Executes an HTTP request using MockMvc framework and performs additional operations or assertions on the result.
+     *
+     * @param requestBuilder The request builder object representing the HTTP request to be executed.
+     * @param fx             A consumer interface for further operating or asserting on the request result.
+     * @return A string representing the content of the response.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected String execute(
+            MockHttpServletRequestBuilder requestBuilder,
+            Consumer<ResultActions> fx) throws Exception {
+
+        return this.executeResult(this.currentMockMvc(), requestBuilder, fx,
+                (result) -> result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Executes an HTTP request and returns a lazy view of the response body, instead of copying it into a String.
+     * <p>
+     * Prefer {@link PrintPolicy#ON_FAILURE} or {@link PrintPolicy#NEVER} for large bodies,
+     * the {@link PrintPolicy#ALWAYS} policy has to decode the body to print it.
+     *
+     * @param requestBuilder The request builder object representing the HTTP request to be executed.
+     * @param fx             A consumer interface for further operating or asserting on the request result.
+     * @return A lazy view of the response body.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected ResponseBody executeForBody(
+            MockHttpServletRequestBuilder requestBuilder,
+            Consumer<ResultActions> fx) throws Exception {
+
+        return new ResponseBody(this.executeResult(requestBuilder, fx));
+    }
+
+    /**
+     * Executes an HTTP request, checks the status and performs additional operations or assertions on the result.
+     *
+     * @param requestBuilder The request builder object representing the HTTP request to be executed.
+     * @param fx             A consumer interface for further operating or asserting on the request result.
+     * @return The result of the executed request.
+     * @throws Exception If an error occurs during the request process.
+     */
+    protected MvcResult executeResult(
+            MockHttpServletRequestBuilder requestBuilder,
+            Consumer<ResultActions> fx) throws Exception {
+
+        return this.executeResult(this.currentMockMvc(), requestBuilder, fx, RESULT_DECODER);
+    }
+
+    private <R> R executeResult(
+            MockMvc mvc,
+            MockHttpServletRequestBuilder requestBuilder,
+            Consumer<ResultActions> fx,
+            Decoder<R> decoder) throws Exception {
+
+        RequestTimings timings = this.takePendingTimings();
+        requestBuilder.requestAttr(RequestTimings.ATTRIBUTE, timings);
+
+        long begin = System.nanoTime();
+        ResultActions actions = this.perform(mvc, requestBuilder);
+
+        MvcResult started = actions.andReturn();
+        if (started.getRequest().isAsyncStarted()) {
+            long waitBegin = System.nanoTime();
+            started.getAsyncResult(this.asyncTimeout().toMillis());
+            timings.record(RequestPhase.ASYNC_WAIT, System.nanoTime() - waitBegin);
+
+            actions = mvc.perform(asyncDispatch(started));
+        }
+
+        recordDispatch(timings, begin);
+
+        return this.verify(actions, fx, timings, decoder);
+    }
+
+    /**
+     * Executes an HTTP request without blocking on the async processing of the handler, e.g.: a {@code DeferredResult},
+     * a {@code Callable}, a {@code CompletableFuture} or a {@code StreamingResponseBody}.
+     * <p>
+     * Once the async result is set, the async dispatch is performed automatically on a shared pool, then the status
+     * check and {@code fx} are applied. So many async requests can be in flight together.
+     * The returned future completes exceptionally with a {@link TimeoutException} after the {@link #asyncTimeout()}.
+     *
+     * @param requestBuilder The request builder object representing the HTTP request to be executed.
+     * @param fx             A consumer interface for further operating or asserting on the request result.
+     * @return A future of the result of the executed request.
+     * @throws Exception If an error occurs during the initial dispatch.
+     */
+    protected CompletableFuture<MvcResult> executeAsync(
+            MockHttpServletRequestBuilder requestBuilder,
+            Consumer<ResultActions> fx) throws Exception {
+
+        MockMvc mvc = this.currentMockMvc();
+        RequestTimings timings = this.takePendingTimings();
+        requestBuilder.requestAttr(RequestTimings.ATTRIBUTE, timings);
+
+        CompletableFuture<MvcResult> future = new CompletableFuture<>();
+        if (this.realServerEnabled()) {
+            // The server handles the async processing, only the round trip is moved off the caller.
+            AsyncDispatcher.dispatch(SecurityContexts.propagate(() -> {
+                try {
+                    long begin = System.nanoTime();
+                    ResultActions actions = this.perform(mvc, requestBuilder);
+                    recordDispatch(timings, begin);
+                    future.complete(this.verify(actions, fx, timings, RESULT_DECODER));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+
+                return null;
+            }));
+
+            return future;
+        }
+
+        long begin = System.nanoTime();
+        ResultActions actions = mvc.perform(requestBuilder);
+
+        MvcResult started = actions.andReturn();
+        if (!started.getRequest().isAsyncStarted()) {
+            recordDispatch(timings, begin);
+            try {
+                future.complete(this.verify(actions, fx, timings, RESULT_DECODER));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+
+            return future;
+        }
+
+        Duration timeout = this.asyncTimeout();
+        ScheduledFuture<?> expiry = AsyncDispatcher.schedule(() -> future.completeExceptionally(
+                new TimeoutException("The async result of " + started.getRequest().getRequestURI() + " is not set within " + timeout)), timeout);
+
+        long waitBegin = System.nanoTime();
+        Callable<Void> dispatch = SecurityContexts.propagate(() -> {
+            try {
+                timings.record(RequestPhase.ASYNC_WAIT, System.nanoTime() - waitBegin);
+                ResultActions dispatched = mvc.perform(asyncDispatch(started));
+                recordDispatch(timings, begin);
+                future.complete(this.verify(dispatched, fx, timings, RESULT_DECODER));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+
+            return null;
+        });
+
+        MockAsyncContext context = (MockAsyncContext) started.getRequest().getAsyncContext();
+        context.addDispatchHandler(() -> {
+            expiry.cancel(false);
+            if (!future.isDone()) {
+                AsyncDispatcher.dispatch(dispatch);
+            }
+        });
+
+        return future;
+    }
+
+    private ResultActions perform(MockMvc mvc, RequestBuilder requestBuilder) throws Exception {
+        if (this.realServerEnabled()) {
+            return RealServerTransport.perform(
+                    this.serverBaseUrl(), requestBuilder, this.applicationContext.getServletContext(), this.asyncTimeout());
+        }
+
+        return mvc.perform(requestBuilder);
+    }
+
+    private static void recordDispatch(RequestTimings timings, long begin) {
+        if (0 == timings.nanos(RequestPhase.DISPATCH)) {
+            // Without the timing filters, the async wait is recorded on its own.
+            timings.record(RequestPhase.DISPATCH, System.nanoTime() - begin - timings.nanos(RequestPhase.ASYNC_WAIT));
+        }
+    }
+
+    private <R> R verify(
+            ResultActions actions,
+            Consumer<ResultActions> fx,
+            RequestTimings timings,
+            Decoder<R> decoder) throws Exception {
+
+        MvcResult result = actions.andReturn();
+        this.recordTraffic(result);
+
+        long begin = System.nanoTime();
+        try {
+            actions.andExpect(status().isOk());
+            fx.accept(actions);
+        } catch (Throwable e) {
+            timings.record(RequestPhase.ASSERT, System.nanoTime() - begin);
+            this.completeTimings(result, timings);
+            this.print(result, true);
+            throw e;
+        }
+        timings.record(RequestPhase.ASSERT, System.nanoTime() - begin);
+
+        long decodeBegin = System.nanoTime();
+        R decoded;
+        try {
+            decoded = decoder.decode(result);
+        } finally {
+            if (RESULT_DECODER != decoder) {
+                timings.record(RequestPhase.DECODE, System.nanoTime() - decodeBegin);
+            }
+            this.completeTimings(result, timings);
+        }
+        this.print(result, false);
+
+        return decoded;
+    }
+
+    private void recordTraffic(MvcResult result) {
+        Path file = this.trafficRecordFile();
+        if (null != file) {
+            TrafficRecorder.of(file).record(result);
+        }
+    }
+
+    private RequestTimings takePendingTimings() {
+        RequestTimings timings = this.pendingTimings.get();
+        if (null == timings) {
+            return new RequestTimings();
+        }
+
+        this.pendingTimings.remove();
+
+        return timings;
+    }
+
+    private void completeTimings(MvcResult result, RequestTimings timings) {
+        timings.method(HttpMethod.resolve(result.getRequest().getMethod()));
+        Object pattern = result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        timings.route(null != pattern ? pattern.toString() : result.getRequest().getRequestURI());
+        timings.status(result.getResponse().getStatus());
+
+        this.lastTimings.set(timings);
+        for (RequestMetricsListener listener : this.requestMetricsListeners()) {
+            listener.onRequest(timings);
+        }
+        RequestMetricsListeners.fire(timings);
+    }
+
+    // ---------------------------------------------------------------- Batch
+
+    /**
+     * Executes all requests of a batch sequentially, see {@link #batch(List, int)}.
+     *
+     * @param requests The request descriptors.
+     * @return The aggregated report.
+     * @throws Exception If the batch is interrupted.
+     */
+    protected BatchReport batch(List<BatchRequest> requests) throws Exception {
+        return this.batch(requests, 1);
+    }
+
+    /**
+     * Executes all requests of a batch, and collects the failures instead of aborting on the first one.
+     * <p>
+     * Every request is checked like a {@code doXxxRequest} call: the status must be {@code 200 OK}, then the
+     * expectations of the descriptor(or the {@link #defaultPredicate(ResultActions)}) are applied.
+     * With a {@code parallelism} greater than 1, the requests are executed by a thread pool, the workers inherit
+     * the {@code SecurityContext} of the calling thread and resolve their {@link MockMvc} by {@link #currentMockMvc()},
+     * like {@link #loadTest(Supplier, int, int)} and {@link #replay(Path, int)}.
+     *
+     * @param requests    The request descriptors.
+     * @param parallelism The number of threads.
+     * @return The aggregated report, call {@link BatchReport#assertAllPassed()} to fail the test.
+     * @throws Exception If the batch is interrupted.
+     */
+    protected BatchReport batch(List<BatchRequest> requests, int parallelism) throws Exception {
+        Assert.notNull(requests, "The requests must not be null");
+        Assert.isTrue(parallelism > 0, "The parallelism must be greater than 0");
+
+        Throwable[] causes = new Throwable[requests.size()];
+
+        long begin = System.nanoTime();
+        if (1 == parallelism || requests.size() <= 1) {
+            for (int i = 0; i < requests.size(); i++) {
+                causes[i] = this.tryExecute(requests.get(i));
+            }
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(parallelism, (runnable) -> {
+                Thread thread = new Thread(runnable, "mock-tester-batch");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            try {
+                List<Future<Throwable>> futures = new ArrayList<>(requests.size());
+                for (BatchRequest request : requests) {
+                    futures.add(executor.submit(SecurityContexts.propagate(() -> this.tryExecute(request))));
+                }
+                for (int i = 0; i < futures.size(); i++) {
+                    causes[i] = futures.get(i).get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        List<BatchReport.Failure> failures = new ArrayList<>();
+        for (int i = 0; i < causes.length; i++) {
+            if (null != causes[i]) {
+                failures.add(new BatchReport.Failure(i, requests.get(i), causes[i]));
+            }
+        }
+
+        return new BatchReport(requests.size(), failures, elapsed);
+    }
+
+    private Throwable tryExecute(BatchRequest request) {
+        try {
+            MockHttpServletRequestBuilder requestBuilder = this.newRequestBuilder(request.method(), request.payload(), request.route());
+            if (null != request.fn()) {
+                request.fn().accept(requestBuilder);
+            }
+
+            this.executeResult(requestBuilder, null != request.fx() ? request.fx() : this::defaultPredicate);
+
+            return null;
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+
+    // ---------------------------------------------------------------- Replay
+
+    /**
+     * Replays the calls recorded in a traffic log sequentially, see {@link #replay(Path, int)}.
+     *
+     * @param file The traffic log file.
+     * @return The replay report.
+     * @throws Exception If the replay is interrupted or the log cannot be read.
+     */
+    protected ReplayReport replay(Path file) throws Exception {
+        return this.replay(file, 1);
+    }
+
+    /**
+     * Re-issues the calls recorded in a traffic log at full speed and compares the responses with the recorded ones,
+     * e.g.: to replay the traffic recorded against a previous build.
+     * <p>
+     * The requests are sent as recorded through the same transport as the other requests, neither the status check,
+     * the predicates nor the printing are applied, and the replayed calls are not recorded again.
+     * <p>
+     * The workers inherit the {@code SecurityContext} of the calling thread and resolve their {@link MockMvc} by
+     * {@link #currentMockMvc()}.
+     * <p>
+     * The principal is not recorded: the requests are replayed as the {@link #defaultMockUser()},
+     * the calls recorded with a per-request {@link #asUser(String)} are replayed as the default user too.
+     *
+     * @param file        The traffic log file, memory-mapped if it fits.
+     * @param parallelism The number of worker threads.
+     * @return The replay report, see {@link ReplayReport#assertNoDifferences()}.
+     * @throws Exception If the replay is interrupted or the log cannot be read.
+     */
+    protected ReplayReport replay(Path file, int parallelism) throws Exception {
+        Assert.notNull(file, "The file must not be null");
+        TrafficRecorder.flushAll();
+
+        return TrafficReplayer.replay(
+                TrafficLog.open(file),
+                (requestBuilder) -> {
+                    this.applyDefaultMockUser(requestBuilder);
+
+                    return this.performCompletely(this.currentMockMvc(), requestBuilder).getResponse();
+                },
+                parallelism,
+                SecurityContexts::propagate
+        );
+    }
+
+    private MvcResult performCompletely(MockMvc mvc, RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = this.perform(mvc, requestBuilder).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result.getAsyncResult(this.asyncTimeout().toMillis());
+            result = mvc.perform(asyncDispatch(result)).andReturn();
+        }
+
+        return result;
+    }
+
+    // ---------------------------------------------------------------- Snapshot
+
+    /**
+     * Asserts a response body matches its golden snapshot, e.g.: {@code assertMatchesSnapshot("hello", this.doGetRequest(...))}.
+     * <p>
+     * The body is normalized and hashed, the golden body is read only if the hashes differ.
+     * Run with {@code -Dmock.tester.snapshot.update=true} to record the missing snapshots and rewrite the changed ones.
+     *
+     * @param name   The snapshot name, unique within the test class.
+     * @param actual The response body.
+     * @see SnapshotStore
+     */
+    protected void assertMatchesSnapshot(String name, String actual) {
+        Assert.hasText(name, "The snapshot name must not be empty");
+        this.snapshotStore().assertMatches(name, this.normalizeSnapshot(actual));
+    }
+
+    /**
+     * Prepares a response body before it is snapshotted, e.g.: to mask the timestamps or generated ids.
+     * <p>
+     * The result is further normalized by {@link SnapshotNormalizer}.
+     *
+     * @param actual The response body.
+     * @return The body to snapshot.
+     */
+    protected String normalizeSnapshot(String actual) {
+        return actual;
+    }
+
+    protected SnapshotStore snapshotStore() {
+        return SnapshotStore.of(this.getClass());
+    }
+
+    // ---------------------------------------------------------------- Budget
+
+    /**
+     * Repeats the given call and fails if the median in-process dispatch exceeds the budget,
+     * with the default warmups and repetitions of {@link LatencyBudget}.
+     *
+     * @param max  The maximum median dispatch time.
+     * @param call The call, e.g.: {@code () -> this.doGetRequest(query, route)}
+     * @param <V>  The result type of the call.
+     * @return The result of the last repetition.
+     * @throws Exception If the call fails.
+     * @see #expectWithin(LatencyBudget, Callable)
+     */
+    protected <V> V expectWithin(Duration max, Callable<V> call) throws Exception {
+        return this.expectWithin(LatencyBudget.of(max), call);
+    }
+
+    /**
+     * Repeats the given call and fails if the median in-process dispatch exceeds the budget.
+     * <p>
+     * The warmups are discarded. The {@link RequestPhase#DISPATCH} time of the last request executed by each
+     * repetition is measured, it excludes the request building, the serialization and the expectations.
+     *
+     * @param budget The latency budget.
+     * @param call   The call, e.g.: {@code () -> this.doGetRequest(query, route)}
+     * @param <V>    The result type of the call.
+     * @return The result of the last repetition.
+     * @throws Exception If the call fails.
+     */
+    protected <V> V expectWithin(LatencyBudget budget, Callable<V> call) throws Exception {
+        Assert.notNull(budget, "The budget must not be null");
+
+        for (int i = 0; i < budget.warmups(); i++) {
+            call.call();
+        }
+
+        V result = null;
+        long[] samples = new long[budget.repetitions()];
+        for (int i = 0; i < samples.length; i++) {
+            RequestTimings previous = this.lastTimings();
+            result = call.call();
+
+            RequestTimings timings = this.lastTimings();
+            Assert.state(null != timings && timings != previous, "The call did not execute a request through the tester");
+            samples[i] = timings.nanos(RequestPhase.DISPATCH);
+        }
+
+        Arrays.sort(samples);
+        long median = samples.length % 2 == 1
+                ? samples[samples.length / 2]
+                : (samples[samples.length / 2 - 1] + samples[samples.length / 2]) / 2;
+
+        if (median > budget.max().toNanos()) {
+            throw new AssertionError(String.format(
+                    "Median dispatch %.3fms of %s exceeds the budget %dms, samples(ms): %s",
+                    median / 1_000_000D,
+                    this.lastTimings().route(),
+                    budget.max().toMillis(),
+                    Arrays.toString(Arrays.stream(samples).mapToDouble((nanos) -> nanos / 1_000_000D).toArray())
+            ));
+        }
+
+        return result;
+    }
+
+    // ---------------------------------------------------------------- Load
+
+    /**
+     * Drives a route {@code iterations} times across {@code threads} threads and reports the throughput
+     * and the latency percentiles of the in-process {@link MockMvc} dispatches, or of the round trips to the embedded
+     * server if {@link #realServerEnabled()}.
+     * <p>
+     * Neither the status check nor the result predicates are applied, and nothing is printed,
+     * a request that throws or does not respond with a {@code 2xx} status is counted as an error.
+     * The workers inherit the {@code SecurityContext} of the calling thread.
+     *
+     * @param method     The HTTP method.
+     * @param route      The route or URL of the request.
+     * @param payload    The payload or the query parameters, may be null.
+     * @param threads    The number of threads.
+     * @param iterations The total number of requests.
+     * @param <T>        The type of the payload.
+     * @return The load test report.
+     * @throws Exception If the load test is interrupted or a worker fails unexpectedly.
+     */
+    protected <T> LoadTestReport loadTest(HttpMethod method, String route, T payload, int threads, int iterations) throws Exception {
+        return this.loadTest(() -> this.newRequestBuilder(method, payload, route), threads, iterations);
+    }
+
+    /**
+     * Drives the requests created by {@code fn} {@code iterations} times across {@code threads} threads.
+     *
+     * @param fn         The request builder factory, invoked once per request.
+     * @param threads    The number of threads.
+     * @param iterations The total number of requests.
+     * @return The load test report.
+     * @throws Exception If the load test is interrupted or a worker fails unexpectedly.
+     * @see #loadTest(HttpMethod, String, Object, int, int)
+     */
+    protected LoadTestReport loadTest(Supplier<? extends RequestBuilder> fn, int threads, int iterations) throws Exception {
+        Assert.isTrue(threads > 0, "The threads must be greater than 0");
+        Assert.isTrue(iterations > 0, "The iterations must be greater than 0");
+
+        AtomicLong errors = new AtomicLong();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads, (runnable) -> {
+            Thread thread = new Thread(runnable, "mock-tester-load");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            List<Future<LatencyHistogram>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                int share = iterations / threads + (i < iterations % threads ? 1 : 0);
+                LatencyHistogram histogram = new LatencyHistogram();
+                // Captures the SecurityContext of the caller, it is set again for every request,
+                // since the security filters clear the context of the worker after each request.
+                Callable<Void> request = SecurityContexts.propagate(() -> {
+                    RequestBuilder requestBuilder = fn.get();
+                    // The timings of newRequestBuilder(...) are not taken by perform(...).
+                    this.pendingTimings.remove();
+                    long begin = System.nanoTime();
+                    try {
+                        int status = this.perform(this.currentMockMvc(), requestBuilder).andReturn().getResponse().getStatus();
+                        histogram.record(System.nanoTime() - begin);
+                        if (status < 200 || status >= 300) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        histogram.record(System.nanoTime() - begin);
+                        errors.incrementAndGet();
+                    }
+
+                    return null;
+                });
+
+                futures.add(executor.submit(() -> {
+                    try {
+                        // Resolves the MockMvc of the worker before the start.
+                        this.currentMockMvc();
+                    } finally {
+                        // A worker that fails to start must not block the others.
+                        ready.countDown();
+                    }
+
+                    start.await();
+
+                    for (int n = 0; n < share; n++) {
+                        request.call();
+                    }
+
+                    return histogram;
+                }));
+            }
+
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+
+            LatencyHistogram histogram = new LatencyHistogram();
+            for (Future<LatencyHistogram> future : futures) {
+                histogram.merge(future.get());
+            }
+
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+            return new LoadTestReport(threads, histogram.count(), errors.get(), elapsed, histogram);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ---------------------------------------------------------------- Print
+
+    /**
+     * Prints the request and response of the given result according to the {@link #printPolicy()}.
+     * <p>
+     * The output is formatted only when it is going to be printed and is written by the {@link AsyncPrintSink}.
+     *
+     * @param result The result of the executed request.
+     * @param failed Whether the status check or an assertion on the result failed.
+     */
+    protected void print(MvcResult result, boolean failed) {
+        PrintPolicy policy = this.printPolicy();
+        if (PrintPolicy.NEVER == policy || (PrintPolicy.ON_FAILURE == policy && !failed)) {
+            return;
+        }
+
+        StringBuilder buffer = new StringBuilder(1024);
+        try {
+            new TruncatingPrintingResultHandler(buffer, this.printBodyLimit()).handle(result);
+        } catch (Exception e) {
+            buffer.append(System.lineSeparator()).append("Print failed: ").append(e);
+        }
+
+        AsyncPrintSink sink = AsyncPrintSink.get();
+        sink.offer(buffer.toString());
+        if (failed) {
+            sink.flush();
+        }
+    }
+
+    // ---------------------------------------------------------------- Query
+
+    /**
+     * Generates a MultiValueMap of query parameters from the provided query object.
+     * <p>
+     * The field accessors of the query class are resolved once and cached by {@link QueryBinder}.
+     *
+     * @param query The query object from which the query parameters are extracted.
+     * @param <Q>   The type of the query object.
+     * @return A MultiValueMap containing the extracted query parameters.
+     */
+    private <Q> MultiValueMap<String, String> getMultiValueMap(Q query) {
+        if (null == query || query instanceof DefaultQuery) {
+            return new LinkedMultiValueMap<>();
+        }
+
+        return QueryBinder.bind(query);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Empty builder method.
+     *
+     * @param builder The builder object.
+     */
+    public void emptyBuilder(MockHttpServletRequestBuilder builder) {}
+
+    /**
+     * Empty predicate method.
+     *
+     * @param actions The result actions object.
+     */
+    public void emptyPredicate(ResultActions actions) {}
+
+    /**
+     * Default predicate for result actions.
+     * <p>
+     * The {@link #okPattern()} is compiled once, and the response body is parsed once per request and shared with the
+     * other {@link JsonPathMatchers#jsonPath(String)} matchers of the request.
+     *
+     * @param actions The result actions object.
+     */
+    public void defaultPredicate(ResultActions actions) {
+        try {
+            actions.andExpect(JsonPathMatchers.jsonPath(this.okPattern()).value(this.apiOk()));
+        } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
     // ----------------------------------------------------------------
 
+    /**
+     * Decodes the response body of a request, timed as {@link RequestPhase#DECODE}.
+     *
+     * @param <R> The type of the decoded body.
+     */
+    @FunctionalInterface
+    private interface Decoder<R> {
+
+        R decode(MvcResult result) throws Exception;
+    }
+
     /**
      * Default Injector configuration class.
      */
@@ -0,0 +1,911 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.binder.QueryBinder;
+import io.github.photowey.spring.boot.mock.tester.cache.ObjectReaders;
+import io.github.photowey.spring.boot.mock.tester.constant.ApiConstants;
+import io.github.photowey.spring.boot.mock.tester.domain.query.DefaultQuery;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+
+/**
+ * {@code AbstractReactiveAPITester}
+ * <p>
+ * The reactive variant of {@link AbstractAPITester}: the same {@code doXxxRequest}, {@code doXxxRequestB} and typed
+ * {@code doXxxRequest(payload, route, type)} family over a {@link WebTestClient} bound to a WebFlux
+ * {@link ApplicationContext}, e.g.:
+ * <pre>
+ * &#64;SpringBootTest(classes = App.class)
+ * class ReactiveApiTest extends AbstractReactiveAPITester {
+ *
+ *     &#64;Test
+ *     void testGet() {
+ *         this.doGetRequest(new HelloQuery("photowey"), "/api/v1/get");
+ *     }
+ * }
+ * </pre>
+ * Streaming endpoints(e.g.: {@code text/event-stream}, {@code application/x-ndjson}) are consumed without blocking
+ * through {@link #doStreamRequest(HttpMethod, Object, String, MediaType, Class)}.
+ * Requires {@code spring-boot-starter-webflux} on the test classpath.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public abstract class AbstractReactiveAPITester {
+
+    /**
+     * The default maximum time to wait for a response.
+     */
+    public static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    protected ApplicationContext applicationContext;
+
+    protected WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        this.webTestClient = this.buildWebTestClient();
+    }
+
+    // ---------------------------------------------------------------- Custom-area start
+
+    /**
+     * Builds the {@link WebTestClient} bound to the {@link #applicationContext}.
+     *
+     * @return The {@link WebTestClient}.
+     */
+    protected WebTestClient buildWebTestClient() {
+        return WebTestClient.bindToApplicationContext(this.applicationContext)
+                .configureClient()
+                .responseTimeout(this.responseTimeout())
+                .build();
+    }
+
+    /**
+     * Retrieves the maximum time to wait for a response.
+     *
+     * @return The response timeout.
+     */
+    protected Duration responseTimeout() {
+        return DEFAULT_RESPONSE_TIMEOUT;
+    }
+
+    /**
+     * Retrieves the success code of the API, see {@link #defaultPredicate(WebTestClient.BodyContentSpec)}.
+     *
+     * @return The success code.
+     */
+    protected String apiOk() {
+        return ApiConstants.API_OK;
+    }
+
+    /**
+     * Retrieves the JSONPath of the code of the API response.
+     *
+     * @return The JSONPath.
+     */
+    protected String okPattern() {
+        return "$.code";
+    }
+
+    /**
+     * Retrieves the health API endpoint.
+     *
+     * @return The health API endpoint.
+     */
+    protected String healthApi() {
+        return AbstractAPITester.HEALTH_API;
+    }
+
+    // ---------------------------------------------------------------- Health API
+
+    /**
+     * Tries to fetch health status information using a GET request to the health check API.
+     *
+     * @return A string representation of the health check API response content.
+     */
+    protected String tryGetHealth() {
+        return this.doRequest(HttpMethod.GET, null, this.healthApi(), this::emptyBuilder, this::emptyPredicate);
+    }
+
+    // ---------------------------------------------------------------- Post
+
+    /**
+     * Executes a POST request without a request body.
+     *
+     * @param route The route or URL of the request.
+     * @return The content of the response.
+     */
+    protected String doPostRequest(String route) {
+        return this.doPostRequest(null, route);
+    }
+
+    /**
+     * Executes a POST request with a payload.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPostRequest(T payload, String route) {
+        return this.doPostRequest(payload, route, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a POST request with a payload and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPostRequest(T payload, String route, Consumer<WebTestClient.BodyContentSpec> fx) {
+        return this.doPostRequest(payload, route, this::emptyBuilder, fx);
+    }
+
+    /**
+     * Executes a POST request with customized request setup.
+     *
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @return The content of the response.
+     */
+    protected String doPostRequestB(String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doPostRequestB(null, route, fn);
+    }
+
+    /**
+     * Executes a POST request with a payload and customized request setup.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPostRequestB(T payload, String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doPostRequest(payload, route, fn, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a POST request with a payload, customized setup and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPostRequest(
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        return this.doRequest(HttpMethod.POST, payload, route, fn, fx);
+    }
+
+    /**
+     * Executes a POST request with a payload and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doPostRequest(T payload, String route, Class<R> type) {
+        return this.doRequest(HttpMethod.POST, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a POST request with a payload and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doPostRequest(T payload, String route, TypeReference<R> type) {
+        return this.doRequest(HttpMethod.POST, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    // ---------------------------------------------------------------- Put
+
+    /**
+     * Executes a PUT request without a request body.
+     *
+     * @param route The route or URL of the request.
+     * @return The content of the response.
+     */
+    protected String doPutRequest(String route) {
+        return this.doPutRequest(null, route);
+    }
+
+    /**
+     * Executes a PUT request with a payload.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPutRequest(T payload, String route) {
+        return this.doPutRequest(payload, route, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a PUT request with a payload and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPutRequest(T payload, String route, Consumer<WebTestClient.BodyContentSpec> fx) {
+        return this.doPutRequest(payload, route, this::emptyBuilder, fx);
+    }
+
+    /**
+     * Executes a PUT request with customized request setup.
+     *
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @return The content of the response.
+     */
+    protected String doPutRequestB(String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doPutRequestB(null, route, fn);
+    }
+
+    /**
+     * Executes a PUT request with a payload and customized request setup.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPutRequestB(T payload, String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doPutRequest(payload, route, fn, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a PUT request with a payload, customized setup and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPutRequest(
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        return this.doRequest(HttpMethod.PUT, payload, route, fn, fx);
+    }
+
+    /**
+     * Executes a PUT request with a payload and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doPutRequest(T payload, String route, Class<R> type) {
+        return this.doRequest(HttpMethod.PUT, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a PUT request with a payload and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doPutRequest(T payload, String route, TypeReference<R> type) {
+        return this.doRequest(HttpMethod.PUT, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    // ---------------------------------------------------------------- Patch
+
+    /**
+     * Executes a PATCH request without a request body.
+     *
+     * @param route The route or URL of the request.
+     * @return The content of the response.
+     */
+    protected String doPatchRequest(String route) {
+        return this.doPatchRequest(null, route);
+    }
+
+    /**
+     * Executes a PATCH request with a payload.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPatchRequest(T payload, String route) {
+        return this.doPatchRequest(payload, route, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a PATCH request with a payload and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPatchRequest(T payload, String route, Consumer<WebTestClient.BodyContentSpec> fx) {
+        return this.doPatchRequest(payload, route, this::emptyBuilder, fx);
+    }
+
+    /**
+     * Executes a PATCH request with customized request setup.
+     *
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @return The content of the response.
+     */
+    protected String doPatchRequestB(String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doPatchRequestB(null, route, fn);
+    }
+
+    /**
+     * Executes a PATCH request with a payload and customized request setup.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPatchRequestB(T payload, String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doPatchRequest(payload, route, fn, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a PATCH request with a payload, customized setup and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doPatchRequest(
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        return this.doRequest(HttpMethod.PATCH, payload, route, fn, fx);
+    }
+
+    /**
+     * Executes a PATCH request with a payload and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doPatchRequest(T payload, String route, Class<R> type) {
+        return this.doRequest(HttpMethod.PATCH, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a PATCH request with a payload and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doPatchRequest(T payload, String route, TypeReference<R> type) {
+        return this.doRequest(HttpMethod.PATCH, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    // ---------------------------------------------------------------- Delete
+
+    /**
+     * Executes a DELETE request without a request body.
+     *
+     * @param route The route or URL of the request.
+     * @return The content of the response.
+     */
+    protected String doDeleteRequest(String route) {
+        return this.doDeleteRequest(null, route);
+    }
+
+    /**
+     * Executes a DELETE request with a payload.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doDeleteRequest(T payload, String route) {
+        return this.doDeleteRequest(payload, route, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a DELETE request with a payload and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doDeleteRequest(T payload, String route, Consumer<WebTestClient.BodyContentSpec> fx) {
+        return this.doDeleteRequest(payload, route, this::emptyBuilder, fx);
+    }
+
+    /**
+     * Executes a DELETE request with customized request setup.
+     *
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @return The content of the response.
+     */
+    protected String doDeleteRequestB(String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doDeleteRequestB(null, route, fn);
+    }
+
+    /**
+     * Executes a DELETE request with a payload and customized request setup.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doDeleteRequestB(T payload, String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doDeleteRequest(payload, route, fn, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a DELETE request with a payload, customized setup and additional assertions on the response body.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doDeleteRequest(
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        return this.doRequest(HttpMethod.DELETE, payload, route, fn, fx);
+    }
+
+    /**
+     * Executes a DELETE request with a payload and deserializes the response body into the given type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doDeleteRequest(T payload, String route, Class<R> type) {
+        return this.doRequest(HttpMethod.DELETE, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a DELETE request with a payload and deserializes the response body into the given generic type.
+     *
+     * @param payload The payload to be sent with the request.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doDeleteRequest(T payload, String route, TypeReference<R> type) {
+        return this.doRequest(HttpMethod.DELETE, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    // ---------------------------------------------------------------- Get
+
+    /**
+     * Executes a GET request without query parameters.
+     *
+     * @param route The route or URL of the request.
+     * @return The content of the response.
+     */
+    protected String doGetRequest(String route) {
+        return this.doGetRequest(null, route);
+    }
+
+    /**
+     * Executes a GET request with query parameters.
+     *
+     * @param query The query object, its fields are bound to the query parameters.
+     * @param route The route or URL of the request.
+     * @param <Q>   The type of the query.
+     * @return The content of the response.
+     */
+    protected <Q> String doGetRequest(Q query, String route) {
+        return this.doGetRequest(query, route, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a GET request with query parameters and additional assertions on the response body.
+     *
+     * @param query The query object, its fields are bound to the query parameters.
+     * @param route The route or URL of the request.
+     * @param fx    A consumer interface for further asserting on the response body.
+     * @param <Q>   The type of the query.
+     * @return The content of the response.
+     */
+    protected <Q> String doGetRequest(Q query, String route, Consumer<WebTestClient.BodyContentSpec> fx) {
+        return this.doGetRequest(query, route, this::emptyBuilder, fx);
+    }
+
+    /**
+     * Executes a GET request with customized request setup.
+     *
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @return The content of the response.
+     */
+    protected String doGetRequestB(String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doGetRequestB(null, route, fn);
+    }
+
+    /**
+     * Executes a GET request with query parameters and customized request setup.
+     *
+     * @param query The query object, its fields are bound to the query parameters.
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @param <Q>   The type of the query.
+     * @return The content of the response.
+     */
+    protected <Q> String doGetRequestB(Q query, String route, Consumer<WebTestClient.RequestHeadersSpec<?>> fn) {
+        return this.doGetRequest(query, route, fn, this::defaultPredicate);
+    }
+
+    /**
+     * Executes a GET request with query parameters, customized setup and additional assertions on the response body.
+     *
+     * @param query The query object, its fields are bound to the query parameters.
+     * @param route The route or URL of the request.
+     * @param fn    A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx    A consumer interface for further asserting on the response body.
+     * @param <Q>   The type of the query.
+     * @return The content of the response.
+     */
+    protected <Q> String doGetRequest(
+            Q query,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        return this.doRequest(HttpMethod.GET, query, route, fn, fx);
+    }
+
+    /**
+     * Executes a GET request with query parameters and deserializes the response body into the given type.
+     *
+     * @param query The query object, its fields are bound to the query parameters.
+     * @param route The route or URL of the request.
+     * @param type  The type of the response body.
+     * @param <Q>   The type of the query.
+     * @param <R>   The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <Q, R> R doGetRequest(Q query, String route, Class<R> type) {
+        return this.doRequest(HttpMethod.GET, query, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a GET request with query parameters and deserializes the response body into the given generic type.
+     *
+     * @param query The query object, its fields are bound to the query parameters.
+     * @param route The route or URL of the request.
+     * @param type  The type reference of the response body.
+     * @param <Q>   The type of the query.
+     * @param <R>   The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <Q, R> R doGetRequest(Q query, String route, TypeReference<R> type) {
+        return this.doRequest(HttpMethod.GET, query, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    // ---------------------------------------------------------------- Request
+
+    /**
+     * Executes a request, checks the status and performs additional assertions on the response body.
+     * <p>
+     * The payload of a GET request is bound to the query parameters, the payload of the other requests is serialized
+     * to the JSON body.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param <T>     The type of the payload.
+     * @return The content of the response.
+     */
+    protected <T> String doRequest(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        byte[] body = this.exchange(method, payload, route, fn, fx);
+
+        return null != body ? new String(body, StandardCharsets.UTF_8) : null;
+    }
+
+    /**
+     * Executes a request and deserializes the response body into the given type.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doRequest(HttpMethod method, T payload, String route, Class<R> type) {
+        return this.doRequest(method, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a request and deserializes the response body into the given generic type.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doRequest(HttpMethod method, T payload, String route, TypeReference<R> type) {
+        return this.doRequest(method, payload, route, this::emptyBuilder, this::defaultPredicate, type);
+    }
+
+    /**
+     * Executes a request with customized setup and additional assertions on the response body, and deserializes the
+     * response body into the given type.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param type    The type of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doRequest(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx,
+            Class<R> type) {
+
+        return ObjectReaders.read(this.exchange(method, payload, route, fn, fx), type);
+    }
+
+    /**
+     * Executes a request with customized setup and additional assertions on the response body, and deserializes the
+     * response body into the given generic type.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param fn      A consumer interface for modifying the request, e.g.: the headers.
+     * @param fx      A consumer interface for further asserting on the response body.
+     * @param type    The type reference of the response body.
+     * @param <T>     The type of the payload.
+     * @param <R>     The type of the response body.
+     * @return The deserialized response body.
+     */
+    protected <T, R> R doRequest(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx,
+            TypeReference<R> type) {
+
+        return ObjectReaders.read(this.exchange(method, payload, route, fn, fx), type);
+    }
+
+    // ---------------------------------------------------------------- Stream
+
+    /**
+     * Executes a request to a streaming endpoint and returns its elements as a {@link Flux}, without blocking and
+     * without buffering the whole body, e.g.: consumed with {@code StepVerifier}.
+     * <p>
+     * The status is checked once the response headers are received.
+     *
+     * @param method      The HTTP method.
+     * @param payload     The payload or the query parameters, may be null.
+     * @param route       The route or URL of the request.
+     * @param accept      The accepted media type, e.g.: {@link MediaType#TEXT_EVENT_STREAM}.
+     * @param elementType The type of the elements.
+     * @param <T>         The type of the payload.
+     * @param <R>         The type of the elements.
+     * @return The elements of the response body.
+     */
+    protected <T, R> Flux<R> doStreamRequest(HttpMethod method, T payload, String route, MediaType accept, Class<R> elementType) {
+        WebTestClient.RequestHeadersSpec<?> request = this.newRequest(method, payload, route);
+        request.accept(accept);
+
+        return request.exchange()
+                .expectStatus().is2xxSuccessful()
+                .returnResult(elementType)
+                .getResponseBody();
+    }
+
+    // ---------------------------------------------------------------- Builder
+
+    /**
+     * Creates a new request.
+     *
+     * @param method  The HTTP method.
+     * @param payload The payload or the query parameters, may be null.
+     * @param route   The route or URL of the request.
+     * @param <T>     The type of the payload.
+     * @return The request spec.
+     */
+    protected <T> WebTestClient.RequestHeadersSpec<?> newRequest(HttpMethod method, T payload, String route) {
+        if (HttpMethod.GET == method) {
+            UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(route);
+            if (isNotEmpty(payload)) {
+                builder.queryParams(this.getMultiValueMap(payload));
+            }
+
+            URI uri = builder.encode().build().toUri();
+
+            return this.webTestClient.get().uri(uri);
+        }
+
+        WebTestClient.RequestBodySpec spec = this.webTestClient.method(method)
+                .uri(route)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (isNotEmpty(payload)) {
+            return spec.bodyValue(JSON.Jackson.toBytes(payload));
+        }
+
+        return spec;
+    }
+
+    // ---------------------------------------------------------------- Exec
+
+    private <T> byte[] exchange(
+            HttpMethod method,
+            T payload,
+            String route,
+            Consumer<WebTestClient.RequestHeadersSpec<?>> fn,
+            Consumer<WebTestClient.BodyContentSpec> fx) {
+
+        WebTestClient.RequestHeadersSpec<?> request = this.newRequest(method, payload, route);
+        fn.accept(request);
+
+        WebTestClient.ResponseSpec response = request.exchange();
+        response.expectStatus().isOk();
+
+        WebTestClient.BodyContentSpec body = response.expectBody();
+        fx.accept(body);
+
+        return body.returnResult().getResponseBodyContent();
+    }
+
+    // ---------------------------------------------------------------- Query
+
+    private <Q> MultiValueMap<String, String> getMultiValueMap(Q query) {
+        if (null == query || query instanceof DefaultQuery) {
+            return new LinkedMultiValueMap<>();
+        }
+
+        return QueryBinder.bind(query);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Empty builder method.
+     *
+     * @param request The request spec.
+     */
+    public void emptyBuilder(WebTestClient.RequestHeadersSpec<?> request) {}
+
+    /**
+     * Empty predicate method.
+     *
+     * @param body The response body spec.
+     */
+    public void emptyPredicate(WebTestClient.BodyContentSpec body) {}
+
+    /**
+     * Default predicate: the {@link #okPattern()} of the response body must be the {@link #apiOk()}.
+     *
+     * @param body The response body spec.
+     */
+    public void defaultPredicate(WebTestClient.BodyContentSpec body) {
+        body.jsonPath(this.okPattern()).isEqualTo(this.apiOk());
+    }
+
+    protected static <T> boolean isNotEmpty(T target) {
+        return !ObjectUtils.isEmpty(target);
+    }
+}
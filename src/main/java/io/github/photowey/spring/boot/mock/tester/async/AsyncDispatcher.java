@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.async;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code AsyncDispatcher}
+ * <p>
+ * The shared daemon threads of the async requests: a pool that performs the async dispatches, so the thread
+ * completing an async result(e.g.: a {@code DeferredResult}) is not blocked, and a scheduler of the async timeouts.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class AsyncDispatcher {
+
+    private AsyncDispatcher() {
+        AssertionErrorThrower.throwz(AsyncDispatcher.class);
+    }
+
+    /**
+     * Performs the given task on the dispatch pool.
+     *
+     * @param task The task.
+     */
+    public static void dispatch(Callable<?> task) {
+        Holder.DISPATCHER.submit(task);
+    }
+
+    /**
+     * Runs the given task once the timeout elapsed.
+     *
+     * @param task    The task.
+     * @param timeout The timeout.
+     * @return The scheduled future, cancel it once the task is no longer needed.
+     */
+    public static ScheduledFuture<?> schedule(Runnable task, Duration timeout) {
+        return Holder.SCHEDULER.schedule(task, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+
+        return (runnable) -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Holder {
+
+        private static final ExecutorService DISPATCHER = Executors.newCachedThreadPool(daemon("mock-tester-async"));
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(daemon("mock-tester-async-timeout"));
+    }
+}
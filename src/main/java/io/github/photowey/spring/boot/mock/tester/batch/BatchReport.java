@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.batch;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code BatchReport}
+ * <p>
+ * The aggregated result of a batch: every request is executed, and the failures are collected instead of
+ * aborting the batch on the first one.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class BatchReport {
+
+    /**
+     * The maximum number of failures listed in the message of {@link #assertAllPassed()}.
+     */
+    private static final int MAX_LISTED_FAILURES = 50;
+
+    private final int total;
+    private final List<Failure> failures;
+    private final Duration elapsed;
+
+    public BatchReport(int total, List<Failure> failures, Duration elapsed) {
+        this.total = total;
+        this.failures = Collections.unmodifiableList(failures);
+        this.elapsed = elapsed;
+    }
+
+    public int total() {
+        return this.total;
+    }
+
+    public int passed() {
+        return this.total - this.failures.size();
+    }
+
+    public List<Failure> failures() {
+        return this.failures;
+    }
+
+    public Duration elapsed() {
+        return this.elapsed;
+    }
+
+    public boolean allPassed() {
+        return this.failures.isEmpty();
+    }
+
+    /**
+     * Fails with one {@link AssertionError} listing the failed requests, the causes are attached as suppressed
+     * exceptions.
+     */
+    public void assertAllPassed() {
+        if (this.allPassed()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(128)
+                .append(this.failures.size())
+                .append(" of ")
+                .append(this.total)
+                .append(" batch requests failed:");
+
+        int listed = Math.min(this.failures.size(), MAX_LISTED_FAILURES);
+        for (int i = 0; i < listed; i++) {
+            message.append(System.lineSeparator()).append("  ").append(this.failures.get(i));
+        }
+        if (this.failures.size() > listed) {
+            message.append(System.lineSeparator()).append("  ... ").append(this.failures.size() - listed).append(" more");
+        }
+
+        AssertionError error = new AssertionError(message.toString());
+        for (Failure failure : this.failures) {
+            error.addSuppressed(failure.cause());
+        }
+
+        throw error;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "BatchReport{total=%d, passed=%d, failed=%d, elapsed=%dms}",
+                this.total,
+                this.passed(),
+                this.failures.size(),
+                this.elapsed.toMillis()
+        );
+    }
+
+    /**
+     * A failed request of a batch.
+     */
+    public static class Failure {
+
+        private final int index;
+        private final BatchRequest request;
+        private final Throwable cause;
+
+        public Failure(int index, BatchRequest request, Throwable cause) {
+            this.index = index;
+            this.request = request;
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the index of the request in the submitted list.
+         *
+         * @return The index.
+         */
+        public int index() {
+            return this.index;
+        }
+
+        public BatchRequest request() {
+            return this.request;
+        }
+
+        public Throwable cause() {
+            return this.cause;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%d] %s: %s", this.index, this.request, this.cause);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.batch;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.Assert;
+
+import java.util.function.Consumer;
+
+/**
+ * {@code BatchRequest}
+ * <p>
+ * An immutable descriptor of one request of a batch: the method, the route, the payload(or the query of a GET request),
+ * the request customizer and the expectations.
+ * <p>
+ * A request without expectations is checked with the {@code defaultPredicate} of the tester.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class BatchRequest {
+
+    private final String name;
+    private final HttpMethod method;
+    private final String route;
+    private final Object payload;
+    private final Consumer<MockHttpServletRequestBuilder> fn;
+    private final Consumer<ResultActions> fx;
+
+    private BatchRequest(
+            String name,
+            HttpMethod method,
+            String route,
+            Object payload,
+            Consumer<MockHttpServletRequestBuilder> fn,
+            Consumer<ResultActions> fx) {
+        this.name = name;
+        this.method = method;
+        this.route = route;
+        this.payload = payload;
+        this.fn = fn;
+        this.fx = fx;
+    }
+
+    public static BatchRequest of(HttpMethod method, String route) {
+        return of(method, route, null);
+    }
+
+    public static BatchRequest of(HttpMethod method, String route, Object payload) {
+        Assert.notNull(method, "The method must not be null");
+        Assert.hasText(route, "The route must not be empty");
+
+        return new BatchRequest(method + " " + route, method, route, payload, null, null);
+    }
+
+    /**
+     * Returns a copy with the given name, it identifies the request in the {@link BatchReport}.
+     *
+     * @param name The name.
+     * @return A new descriptor.
+     */
+    public BatchRequest named(String name) {
+        return new BatchRequest(name, this.method, this.route, this.payload, this.fn, this.fx);
+    }
+
+    /**
+     * Returns a copy with the given request customizer.
+     *
+     * @param fn A consumer interface for modifying the request builder.
+     * @return A new descriptor.
+     */
+    public BatchRequest customize(Consumer<MockHttpServletRequestBuilder> fn) {
+        return new BatchRequest(this.name, this.method, this.route, this.payload, fn, this.fx);
+    }
+
+    /**
+     * Returns a copy with the given expectations, they replace the {@code defaultPredicate}.
+     *
+     * @param fx A consumer interface for further operating or asserting on the request result.
+     * @return A new descriptor.
+     */
+    public BatchRequest expect(Consumer<ResultActions> fx) {
+        return new BatchRequest(this.name, this.method, this.route, this.payload, this.fn, fx);
+    }
+
+    // ----------------------------------------------------------------
+
+    public String name() {
+        return this.name;
+    }
+
+    public HttpMethod method() {
+        return this.method;
+    }
+
+    public String route() {
+        return this.route;
+    }
+
+    public Object payload() {
+        return this.payload;
+    }
+
+    public Consumer<MockHttpServletRequestBuilder> fn() {
+        return this.fn;
+    }
+
+    public Consumer<ResultActions> fx() {
+        return this.fx;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.binder;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * {@code QueryBinder}
+ * <p>
+ * Binds the fields of a query object to query parameters.
+ * <p>
+ * The field accessors of a class are resolved once into {@link MethodHandle}s and cached in a {@link ClassValue},
+ * so binding a query does not touch the reflection API.
+ * <ul>
+ *     <li>{@link JsonProperty} renames a parameter, {@link JsonIgnore} skips it.</li>
+ *     <li>{@link Collection}s and arrays of simple values are bound as repeated parameters: {@code ids=1&ids=2}.</li>
+ *     <li>Nested objects are bound with a dotted prefix: {@code page.size=10}.</li>
+ *     <li>Elements of nested objects are bound with an indexed prefix: {@code items[0].name=x}.</li>
+ *     <li>{@link Map}s are bound with the entry key as the property name: {@code attrs.k=v}.</li>
+ * </ul>
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class QueryBinder {
+
+    /**
+     * The maximum nesting depth, guards against self-referencing query objects.
+     */
+    private static final int MAX_DEPTH = 8;
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<QueryBinder> BINDERS = new ClassValue<QueryBinder>() {
+        @Override
+        protected QueryBinder computeValue(Class<?> type) {
+            return new QueryBinder(type);
+        }
+    };
+
+    private final Accessor[] accessors;
+
+    private QueryBinder(Class<?> type) {
+        this.accessors = resolveAccessors(type);
+    }
+
+    /**
+     * Returns the binder of the given query class.
+     *
+     * @param type The query class.
+     * @return The cached binder.
+     */
+    public static QueryBinder of(Class<?> type) {
+        return BINDERS.get(type);
+    }
+
+    /**
+     * Binds the non-empty fields of the given query object to query parameters.
+     *
+     * @param query The query object.
+     * @return A MultiValueMap containing the bound query parameters.
+     */
+    public static MultiValueMap<String, String> bind(Object query) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        if (null == query) {
+            return params;
+        }
+
+        of(query.getClass()).bindTo(query, "", params, 0);
+
+        return params;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void bindTo(Object target, String prefix, MultiValueMap<String, String> params, int depth) {
+        for (Accessor accessor : this.accessors) {
+            Object value = accessor.get(target);
+            String name = prefix + accessor.name;
+
+            List<String> values = new ArrayList<>(1);
+            bindValue(value, name, values, params, depth);
+            if (!values.isEmpty()) {
+                params.put(name, values);
+            }
+        }
+    }
+
+    private static void bindValue(
+            Object value,
+            String name,
+            List<String> values,
+            MultiValueMap<String, String> params,
+            int depth) {
+
+        if (value instanceof Optional) {
+            value = ((Optional<?>) value).orElse(null);
+        }
+        if (ObjectUtils.isEmpty(value)) {
+            return;
+        }
+
+        Class<?> type = value.getClass();
+        if (isSimple(type)) {
+            values.add(String.valueOf(value));
+            return;
+        }
+        if (depth >= MAX_DEPTH) {
+            return;
+        }
+
+        if (value instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                String key = name + "." + entry.getKey();
+                List<String> nested = new ArrayList<>(1);
+                bindValue(entry.getValue(), key, nested, params, depth + 1);
+                if (!nested.isEmpty()) {
+                    params.put(key, nested);
+                }
+            }
+
+            return;
+        }
+
+        if (value instanceof Iterable) {
+            int index = 0;
+            for (Object element : (Iterable<?>) value) {
+                bindElement(element, name, index++, values, params, depth);
+            }
+
+            return;
+        }
+
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                bindElement(Array.get(value, i), name, i, values, params, depth);
+            }
+
+            return;
+        }
+
+        QueryBinder binder = of(type);
+        if (binder.accessors.length == 0) {
+            values.add(String.valueOf(value));
+            return;
+        }
+
+        binder.bindTo(value, name + ".", params, depth + 1);
+    }
+
+    private static void bindElement(
+            Object element,
+            String name,
+            int index,
+            List<String> values,
+            MultiValueMap<String, String> params,
+            int depth) {
+
+        if (null == element) {
+            return;
+        }
+
+        if (isSimple(element.getClass())) {
+            values.add(String.valueOf(element));
+            return;
+        }
+
+        String key = name + "[" + index + "]";
+        List<String> nested = new ArrayList<>(1);
+        bindValue(element, key, nested, params, depth + 1);
+        if (!nested.isEmpty()) {
+            params.put(key, nested);
+        }
+    }
+
+    private static boolean isSimple(Class<?> type) {
+        return BeanUtils.isSimpleValueType(type);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static Accessor[] resolveAccessors(Class<?> type) {
+        List<Accessor> accessors = new ArrayList<>();
+        if (isSimple(type) || type.isArray() || type.getName().startsWith("java.")) {
+            return new Accessor[0];
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        Class<?> clazz = type;
+        while (null != clazz && Object.class != clazz) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                    continue;
+                }
+
+                Method getter = findGetter(clazz, field);
+                if (isIgnored(field) || isIgnored(getter)) {
+                    continue;
+                }
+
+                try {
+                    field.setAccessible(true);
+                    MethodHandle handle = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                    accessors.add(new Accessor(determineName(field, getter), handle));
+                } catch (IllegalAccessException | RuntimeException e) {
+                    // Inaccessible field(e.g.: JDK internals), treat the whole type as a simple value.
+                    return new Accessor[0];
+                }
+            }
+
+            clazz = clazz.getSuperclass();
+        }
+
+        return accessors.toArray(new Accessor[0]);
+    }
+
+    private static String determineName(Field field, Method getter) {
+        String name = determineJsonName(field);
+        if (null == name) {
+            name = determineJsonName(getter);
+        }
+
+        return null != name ? name : field.getName();
+    }
+
+    private static String determineJsonName(AnnotatedElement element) {
+        if (null == element) {
+            return null;
+        }
+
+        JsonProperty property = element.getAnnotation(JsonProperty.class);
+        if (null != property && StringUtils.hasText(property.value())) {
+            return property.value();
+        }
+
+        return null;
+    }
+
+    private static boolean isIgnored(AnnotatedElement element) {
+        if (null == element) {
+            return false;
+        }
+
+        JsonIgnore ignore = element.getAnnotation(JsonIgnore.class);
+
+        return null != ignore && ignore.value();
+    }
+
+    private static Method findGetter(Class<?> clazz, Field field) {
+        String suffix = StringUtils.capitalize(field.getName());
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                return clazz.getDeclaredMethod(prefix + suffix);
+            } catch (NoSuchMethodException ignored) {
+                // Try the next one.
+            }
+        }
+
+        return null;
+    }
+
+    private static final class Accessor {
+
+        private final String name;
+        private final MethodHandle getter;
+
+        private Accessor(String name, MethodHandle getter) {
+            this.name = name;
+            this.getter = getter;
+        }
+
+        private Object get(Object target) {
+            try {
+                return (Object) this.getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read the query property: " + this.name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.cache;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ApplicationContextEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.servlet.Filter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * {@code MockMvcCache}
+ * <p>
+ * Caches built {@link MockMvc} instances, keyed by the identity of the {@link WebApplicationContext},
+ * the security flag and the registered {@link Filter}s.
+ * <p>
+ * Entries of a context are evicted once it publishes a {@link ContextRefreshedEvent} or a {@link ContextClosedEvent}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class MockMvcCache {
+
+    private static final Map<Key, MockMvc> CACHE = new ConcurrentHashMap<>();
+    private static final Map<Key, ThreadLocal<MockMvc>> LOCAL_CACHE = new ConcurrentHashMap<>();
+    private static final Set<ApplicationContext> OBSERVED = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private MockMvcCache() {
+        AssertionErrorThrower.throwz(MockMvcCache.class);
+    }
+
+    /**
+     * Returns the cached {@link MockMvc} for the given key parts, building it with {@code builder} on a miss.
+     *
+     * @param context         The web application context the {@link MockMvc} is bound to.
+     * @param securityEnabled Whether the security filter chain is registered.
+     * @param filters         The filters registered on the {@link MockMvc}.
+     * @param builder         The factory invoked on a cache miss.
+     * @return The cached or newly built {@link MockMvc}.
+     */
+    public static MockMvc get(
+            WebApplicationContext context,
+            boolean securityEnabled,
+            List<Filter> filters,
+            Supplier<MockMvc> builder) {
+
+        observe(context);
+
+        return CACHE.computeIfAbsent(new Key(context, securityEnabled, filters), (key) -> builder.get());
+    }
+
+    /**
+     * Returns the {@link MockMvc} cached for the current thread, building it with {@code builder} on a miss.
+     * <p>
+     * Every thread gets its own {@link MockMvc} instance.
+     *
+     * @param context         The web application context the {@link MockMvc} is bound to.
+     * @param securityEnabled Whether the security filter chain is registered.
+     * @param filters         The filters registered on the {@link MockMvc}.
+     * @param builder         The factory invoked on a cache miss.
+     * @return The cached or newly built {@link MockMvc} of the current thread.
+     */
+    public static MockMvc getLocal(
+            WebApplicationContext context,
+            boolean securityEnabled,
+            List<Filter> filters,
+            Supplier<MockMvc> builder) {
+
+        observe(context);
+
+        ThreadLocal<MockMvc> local = LOCAL_CACHE.computeIfAbsent(new Key(context, securityEnabled, filters), (key) -> new ThreadLocal<>());
+        MockMvc mockMvc = local.get();
+        if (null == mockMvc) {
+            mockMvc = builder.get();
+            local.set(mockMvc);
+        }
+
+        return mockMvc;
+    }
+
+    /**
+     * Evicts every cached {@link MockMvc} bound to the given context.
+     *
+     * @param context The web application context.
+     */
+    public static void evict(ApplicationContext context) {
+        CACHE.keySet().removeIf((key) -> key.context == context);
+        LOCAL_CACHE.keySet().removeIf((key) -> key.context == context);
+    }
+
+    /**
+     * Evicts all cached {@link MockMvc}s.
+     */
+    public static void clear() {
+        CACHE.clear();
+        LOCAL_CACHE.clear();
+    }
+
+    /**
+     * Returns the number of cached {@link MockMvc}s.
+     *
+     * @return The cache size.
+     */
+    public static int size() {
+        return CACHE.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void observe(WebApplicationContext context) {
+        if (!(context instanceof ConfigurableApplicationContext)) {
+            return;
+        }
+
+        synchronized (OBSERVED) {
+            if (OBSERVED.add(context)) {
+                ((ConfigurableApplicationContext) context).addApplicationListener(new InvalidationListener(context));
+            }
+        }
+    }
+
+    private static final class InvalidationListener implements ApplicationListener<ApplicationContextEvent> {
+
+        private final ApplicationContext context;
+
+        private InvalidationListener(ApplicationContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationContextEvent event) {
+            if (event.getApplicationContext() != this.context) {
+                return;
+            }
+
+            if (event instanceof ContextRefreshedEvent || event instanceof ContextClosedEvent) {
+                evict(this.context);
+            }
+
+            if (event instanceof ContextClosedEvent) {
+                synchronized (OBSERVED) {
+                    OBSERVED.remove(this.context);
+                }
+            }
+        }
+    }
+
+    private static final class Key {
+
+        private final WebApplicationContext context;
+        private final boolean securityEnabled;
+        private final List<Filter> filters;
+        private final int hash;
+
+        private Key(WebApplicationContext context, boolean securityEnabled, List<Filter> filters) {
+            this.context = context;
+            this.securityEnabled = securityEnabled;
+            this.filters = new ArrayList<>(filters);
+            this.hash = this.computeHash();
+        }
+
+        private int computeHash() {
+            int h = System.identityHashCode(this.context);
+            h = 31 * h + Boolean.hashCode(this.securityEnabled);
+            for (Filter filter : this.filters) {
+                h = 31 * h + System.identityHashCode(filter);
+            }
+
+            return h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key that = (Key) o;
+            if (this.context != that.context
+                    || this.securityEnabled != that.securityEnabled
+                    || this.filters.size() != that.filters.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < this.filters.size(); i++) {
+                if (this.filters.get(i) != that.filters.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code ObjectReaders}
+ * <p>
+ * Caches the {@link ObjectReader} of each target {@link JavaType}, built from the shared {@link ObjectMapper} of
+ * {@link Jackson}.
+ * <p>
+ * The type is resolved and the root deserializer is located once per type, instead of once per response.
+ * The cache is rebuilt when the shared {@link ObjectMapper} is replaced.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class ObjectReaders {
+
+    private static volatile Readers readers;
+
+    private ObjectReaders() {
+        AssertionErrorThrower.throwz(ObjectReaders.class);
+    }
+
+    /**
+     * Returns the cached reader of the given type.
+     *
+     * @param type The target type.
+     * @return The cached reader.
+     */
+    public static ObjectReader forType(Class<?> type) {
+        Readers current = current();
+
+        return current.get(current.mapper.constructType(type));
+    }
+
+    /**
+     * Returns the cached reader of the given generic type.
+     *
+     * @param type The target type reference, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @return The cached reader.
+     */
+    public static ObjectReader forType(TypeReference<?> type) {
+        Readers current = current();
+
+        return current.get(current.mapper.constructType(type));
+    }
+
+    /**
+     * Reads the given input stream into the given type.
+     *
+     * @param input The input stream.
+     * @param type  The target type.
+     * @param <R>   The target type.
+     * @return The deserialized value.
+     */
+    public static <R> R read(InputStream input, Class<R> type) {
+        return readValue(forType(type), input);
+    }
+
+    /**
+     * Reads the given input stream into the given generic type.
+     *
+     * @param input The input stream.
+     * @param type  The target type reference.
+     * @param <R>   The target type.
+     * @return The deserialized value.
+     */
+    public static <R> R read(InputStream input, TypeReference<R> type) {
+        return readValue(forType(type), input);
+    }
+
+    /**
+     * Reads the given bytes into the given type.
+     *
+     * @param content The bytes.
+     * @param type    The target type.
+     * @param <R>     The target type.
+     * @return The deserialized value.
+     */
+    public static <R> R read(byte[] content, Class<R> type) {
+        return readValue(forType(type), content);
+    }
+
+    /**
+     * Reads the given bytes into the given generic type.
+     *
+     * @param content The bytes.
+     * @param type    The target type reference.
+     * @param <R>     The target type.
+     * @return The deserialized value.
+     */
+    public static <R> R read(byte[] content, TypeReference<R> type) {
+        return readValue(forType(type), content);
+    }
+
+    /**
+     * Binds an already parsed value(e.g.: a document of {@link Map}s and {@link java.util.List}s) to the given type,
+     * without parsing any bytes.
+     *
+     * @param value The parsed value.
+     * @param type  The target type.
+     * @param <R>   The target type.
+     * @return The bound value.
+     */
+    public static <R> R convert(Object value, Class<R> type) {
+        Readers current = current();
+
+        return current.mapper.convertValue(value, current.mapper.constructType(type));
+    }
+
+    /**
+     * Binds an already parsed value to the given generic type, without parsing any bytes.
+     *
+     * @param value The parsed value.
+     * @param type  The target type reference.
+     * @param <R>   The target type.
+     * @return The bound value.
+     */
+    public static <R> R convert(Object value, TypeReference<R> type) {
+        Readers current = current();
+
+        return current.mapper.convertValue(value, current.mapper.constructType(type));
+    }
+
+    /**
+     * Returns the number of cached readers.
+     *
+     * @return The cache size.
+     */
+    public static int size() {
+        Readers current = readers;
+
+        return null != current ? current.cache.size() : 0;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static <R> R readValue(ObjectReader reader, InputStream input) {
+        try {
+            return reader.readValue(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize the response body", e);
+        }
+    }
+
+    private static <R> R readValue(ObjectReader reader, byte[] content) {
+        try {
+            return reader.readValue(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to deserialize the response body", e);
+        }
+    }
+
+    private static Readers current() {
+        ObjectMapper mapper = Jackson.getObjectMapper();
+        Readers current = readers;
+        if (null == current || current.mapper != mapper) {
+            current = new Readers(mapper);
+            readers = current;
+        }
+
+        return current;
+    }
+
+    private static final class Readers {
+
+        private final ObjectMapper mapper;
+        private final Map<JavaType, ObjectReader> cache = new ConcurrentHashMap<>();
+
+        private Readers(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        private ObjectReader get(JavaType type) {
+            return this.cache.computeIfAbsent(type, this.mapper::readerFor);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.cache;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@code PayloadCache}
+ * <p>
+ * Caches the serialized UTF-8 bytes of request payloads, keyed by the identity of the payload.
+ * <p>
+ * The payloads are weakly referenced, an entry goes away with its payload. The cache is bounded by
+ * {@link #MAX_ENTRIES} and {@link #MAX_BYTES}, the least recently used entries are evicted first.
+ * <p>
+ * Only immutable payloads (or payloads that are never modified after the first request) may be cached,
+ * a modified payload keeps being sent with its first serialized form.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class PayloadCache {
+
+    /**
+     * The maximum number of cached payloads.
+     */
+    public static final int MAX_ENTRIES = 512;
+
+    /**
+     * The maximum number of cached bytes in total, larger payloads are not cached.
+     */
+    public static final long MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+    private static final Map<Key, byte[]> CACHE = new LinkedHashMap<>(16, 0.75F, true);
+
+    private static long bytes;
+
+    private PayloadCache() {
+        AssertionErrorThrower.throwz(PayloadCache.class);
+    }
+
+    /**
+     * Returns the cached bytes of the given payload, serializing it with {@code serializer} on a miss.
+     *
+     * @param payload    The payload.
+     * @param serializer The serializer invoked on a cache miss.
+     * @return The serialized bytes, must not be modified.
+     */
+    public static byte[] get(Object payload, Function<Object, byte[]> serializer) {
+        synchronized (CACHE) {
+            expunge();
+
+            byte[] cached = CACHE.get(new Key(payload, null));
+            if (null != cached) {
+                return cached;
+            }
+        }
+
+        // Serialize outside the lock, a concurrent miss of the same payload serializes it twice.
+        byte[] serialized = serializer.apply(payload);
+        if (serialized.length > MAX_BYTES) {
+            return serialized;
+        }
+
+        synchronized (CACHE) {
+            byte[] previous = CACHE.put(new Key(payload, QUEUE), serialized);
+            if (null != previous) {
+                bytes -= previous.length;
+            }
+            bytes += serialized.length;
+
+            trim();
+        }
+
+        return serialized;
+    }
+
+    /**
+     * Evicts all cached payloads.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            bytes = 0;
+        }
+    }
+
+    /**
+     * Returns the number of cached payloads.
+     *
+     * @return The cache size.
+     */
+    public static int size() {
+        synchronized (CACHE) {
+            expunge();
+
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Returns the number of cached bytes.
+     *
+     * @return The cached bytes.
+     */
+    public static long bytes() {
+        synchronized (CACHE) {
+            expunge();
+
+            return bytes;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void expunge() {
+        Reference<?> reference;
+        while (null != (reference = QUEUE.poll())) {
+            byte[] removed = CACHE.remove((Key) reference);
+            if (null != removed) {
+                bytes -= removed.length;
+            }
+        }
+    }
+
+    private static void trim() {
+        Iterator<Map.Entry<Key, byte[]>> it = CACHE.entrySet().iterator();
+        while (it.hasNext() && (CACHE.size() > MAX_ENTRIES || bytes > MAX_BYTES)) {
+            bytes -= it.next().getValue().length;
+            it.remove();
+        }
+    }
+
+    private static final class Key extends WeakReference<Object> {
+
+        private final int hash;
+
+        private Key(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Object referent = this.get();
+
+            return null != referent && referent == ((Key) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * {@code ContextCacheReport}
+ * <p>
+ * Records, per test class, whether its application context was served from Spring's test context cache,
+ * and why it was not, see {@link ContextCacheReportingListener}.
+ * <p>
+ * A miss is explained against the closest configuration loaded before, see {@link ContextConfigurationDiff}.
+ * The entries and the loaded configurations are bounded, and cleared once a launcher session that ran tests closes,
+ * see {@link ContextPrewarmer}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class ContextCacheReport {
+
+    /**
+     * The number of retained entries, the hits and the misses are counted beyond it.
+     */
+    private static final int MAX_ENTRIES = 1024;
+
+    /**
+     * The number of loaded configurations kept to explain the misses, Spring's default context cache size.
+     */
+    private static final int MAX_LOADED = 32;
+
+    private static final Deque<Entry> ENTRIES = new ArrayDeque<>();
+    private static final Deque<MergedContextConfiguration> LOADED = new ArrayDeque<>();
+    private static final Map<ApplicationContext, Load> PENDING = new WeakHashMap<>();
+    private static final ThreadLocal<Boolean> BACKGROUND = new ThreadLocal<>();
+
+    private static long hits;
+    private static long misses;
+    private static long loadNanos;
+
+    private ContextCacheReport() {
+        AssertionErrorThrower.throwz(ContextCacheReport.class);
+    }
+
+    /**
+     * Returns the retained entries, in the order the test classes were prepared.
+     * Only the last {@value #MAX_ENTRIES} entries are retained.
+     *
+     * @return The entries.
+     */
+    public static List<Entry> entries() {
+        synchronized (ENTRIES) {
+            return Collections.unmodifiableList(new ArrayList<>(ENTRIES));
+        }
+    }
+
+    /**
+     * Returns the recorded entry of a test class.
+     *
+     * @param testClass The test class.
+     * @return The last entry of the test class, or null if it was not prepared or is no longer retained.
+     */
+    public static Entry entry(Class<?> testClass) {
+        synchronized (ENTRIES) {
+            Iterator<Entry> iterator = ENTRIES.descendingIterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.testClass() == testClass) {
+                    return entry;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    public static long hits() {
+        synchronized (ENTRIES) {
+            return hits;
+        }
+    }
+
+    public static long misses() {
+        synchronized (ENTRIES) {
+            return misses;
+        }
+    }
+
+    /**
+     * Returns the time the test classes spent waiting for a context to load.
+     *
+     * @return The total load time of the misses.
+     */
+    public static Duration loadTime() {
+        synchronized (ENTRIES) {
+            return Duration.ofNanos(loadNanos);
+        }
+    }
+
+    /**
+     * Formats the hits, the misses and the reasons of the retained misses.
+     *
+     * @return The summary.
+     */
+    public static String summary() {
+        List<Entry> entries = entries();
+        StringBuilder summary = new StringBuilder(256);
+        summary.append(String.format(
+                "Context cache: %d hits, %d misses, %d ms loading", hits(), misses(), loadTime().toMillis()));
+        for (Entry entry : entries) {
+            if (!entry.hit()) {
+                summary.append(String.format(
+                        "%n  miss %s (%d ms): %s", entry.testClass().getName(), entry.elapsed().toMillis(), entry.reason()));
+            }
+        }
+
+        return summary.toString();
+    }
+
+    /**
+     * Clears the entries, the counters and the loaded configurations, e.g.: once a launcher session closes.
+     */
+    public static void reset() {
+        synchronized (ENTRIES) {
+            ENTRIES.clear();
+            LOADED.clear();
+            PENDING.clear();
+            hits = 0;
+            misses = 0;
+            loadNanos = 0;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Called on the loading thread once a context is created, before it is refreshed.
+     */
+    static void loading(ApplicationContext context, MergedContextConfiguration configuration) {
+        synchronized (ENTRIES) {
+            String reason = ContextConfigurationDiff.explain(configuration, LOADED);
+            if (Boolean.TRUE.equals(BACKGROUND.get())) {
+                reason = "prewarmed in the background, " + reason;
+            }
+            PENDING.put(context, new Load(configuration, reason));
+        }
+    }
+
+    /**
+     * Called on the test thread once the context of a test class is resolved.
+     */
+    static Entry record(Class<?> testClass, ApplicationContext context, Duration elapsed) {
+        synchronized (ENTRIES) {
+            Load load = PENDING.remove(context);
+            Entry entry;
+            if (null == load) {
+                entry = new Entry(testClass, true, elapsed, null);
+                hits++;
+            } else {
+                entry = new Entry(testClass, false, elapsed, load.reason);
+                misses++;
+                loadNanos += elapsed.toNanos();
+                LOADED.addLast(load.configuration);
+                if (LOADED.size() > MAX_LOADED) {
+                    LOADED.removeFirst();
+                }
+            }
+
+            ENTRIES.addLast(entry);
+            if (ENTRIES.size() > MAX_ENTRIES) {
+                ENTRIES.removeFirst();
+            }
+
+            return entry;
+        }
+    }
+
+    static void background(Runnable task) {
+        BACKGROUND.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            BACKGROUND.remove();
+        }
+    }
+
+    private static final class Load {
+
+        private final MergedContextConfiguration configuration;
+        private final String reason;
+
+        private Load(MergedContextConfiguration configuration, String reason) {
+            this.configuration = configuration;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * The context resolution of a test class.
+     */
+    public static final class Entry {
+
+        private final Class<?> testClass;
+        private final boolean hit;
+        private final Duration elapsed;
+        private final String reason;
+
+        private Entry(Class<?> testClass, boolean hit, Duration elapsed, String reason) {
+            this.testClass = testClass;
+            this.hit = hit;
+            this.elapsed = elapsed;
+            this.reason = reason;
+        }
+
+        public Class<?> testClass() {
+            return this.testClass;
+        }
+
+        public boolean hit() {
+            return this.hit;
+        }
+
+        /**
+         * Returns the time the test class waited for its context, including the load on a miss.
+         *
+         * @return The elapsed time.
+         */
+        public Duration elapsed() {
+            return this.elapsed;
+        }
+
+        /**
+         * Returns why the context was loaded.
+         *
+         * @return The reason of a miss, or null on a hit.
+         */
+        public String reason() {
+            return this.reason;
+        }
+
+        @Override
+        public String toString() {
+            return this.hit
+                    ? String.format("hit %s", this.testClass.getName())
+                    : String.format("miss %s (%d ms): %s", this.testClass.getName(), this.elapsed.toMillis(), this.reason);
+        }
+    }
+}
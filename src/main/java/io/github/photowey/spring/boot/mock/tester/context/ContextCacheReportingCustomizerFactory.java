@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import io.github.photowey.spring.boot.mock.tester.api.AbstractAPITester;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import java.util.List;
+
+/**
+ * {@code ContextCacheReportingCustomizerFactory}
+ * <p>
+ * Contributes a customizer that is applied only when a context is actually loaded, i.e.: on a context cache miss,
+ * and hands the loaded {@link MergedContextConfiguration} to the {@link ContextCacheReport}.
+ * <p>
+ * Registered in {@code spring.factories}, the only registration point of a {@link ContextCustomizerFactory},
+ * but it contributes nothing to a test class which is not an {@link AbstractAPITester},
+ * so the other Spring tests of a project keep their context untouched.
+ * The customizer is the same for every test class of the tester, so it never splits the cache key among them.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class ContextCacheReportingCustomizerFactory implements ContextCustomizerFactory {
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass, List<ContextConfigurationAttributes> configAttributes) {
+        return reported(testClass) ? ReportingCustomizer.INSTANCE : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    static boolean reported(Class<?> testClass) {
+        return AbstractAPITester.class.isAssignableFrom(testClass);
+    }
+
+    static final class ReportingCustomizer implements ContextCustomizer {
+
+        private static final ReportingCustomizer INSTANCE = new ReportingCustomizer();
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            ContextCacheReport.loading(context, mergedConfig);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return null != o && o.getClass() == this.getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return ReportingCustomizer.class.hashCode();
+        }
+    }
+}
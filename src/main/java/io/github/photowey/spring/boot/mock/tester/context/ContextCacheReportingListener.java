@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.support.AbstractTestExecutionListener;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * {@code ContextCacheReportingListener}
+ * <p>
+ * Resolves the application context of every test class first, measures how long it waited for it,
+ * and records the hit or the miss in the {@link ContextCacheReport}.
+ * A miss is logged with its reason, e.g.: the differing active profiles or mock beans,
+ * at INFO level if the {@value ContextPrewarmer#REPORT_PROPERTY} system property is true, at DEBUG level otherwise.
+ * <p>
+ * Attached to the {@link io.github.photowey.spring.boot.mock.tester.api.AbstractAPITester} only,
+ * by its {@code @TestExecutionListeners}, and skips a test class whose context is loaded without
+ * the {@link ContextCacheReportingCustomizerFactory}, e.g.: a {@link SharedContext} one anchored to a plain test class.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class ContextCacheReportingListener extends AbstractTestExecutionListener {
+
+    private static final Log log = LogFactory.getLog(ContextCacheReportingListener.class);
+
+    private static final Set<Class<?>> PREPARED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /**
+     * Runs first, so the context is loaded here rather than by the other listeners.
+     *
+     * @return {@link Ordered#HIGHEST_PRECEDENCE}.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void beforeTestClass(TestContext testContext) {
+        PREPARED.remove(testContext.getTestClass());
+    }
+
+    @Override
+    public void prepareTestInstance(TestContext testContext) {
+        // Once per test class, the following instances of a PER_METHOD test class are always hits.
+        if (!PREPARED.add(testContext.getTestClass())) {
+            return;
+        }
+        // A miss is only recognized if the context was loaded through the customizer.
+        if (!ContextCacheReportingCustomizerFactory.reported(SharedContextBootstrapper.resolveAnchor(testContext.getTestClass()))) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        ApplicationContext context = testContext.getApplicationContext();
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        ContextCacheReport.Entry entry = ContextCacheReport.record(testContext.getTestClass(), context, elapsed);
+        if (!entry.hit() && Boolean.getBoolean(ContextPrewarmer.REPORT_PROPERTY)) {
+            log.info("Context cache " + entry);
+
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Context cache " + entry);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.web.WebMergedContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * {@code ContextConfigurationDiff}
+ * <p>
+ * Explains a context cache miss by the attributes of its {@link MergedContextConfiguration}
+ * that differ from the closest configuration loaded before, e.g.:
+ * {@code activeProfiles [dev] vs [] (closest: io.github.photowey.HelloTest)}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+final class ContextConfigurationDiff {
+
+    private ContextConfigurationDiff() {
+        AssertionErrorThrower.throwz(ContextConfigurationDiff.class);
+    }
+
+    static String explain(MergedContextConfiguration configuration, Collection<MergedContextConfiguration> loaded) {
+        if (loaded.isEmpty()) {
+            return "first context";
+        }
+
+        MergedContextConfiguration closest = null;
+        List<String> differences = null;
+        for (MergedContextConfiguration candidate : loaded) {
+            List<String> candidateDifferences = diff(configuration, candidate);
+            if (null == differences || candidateDifferences.size() < differences.size()) {
+                closest = candidate;
+                differences = candidateDifferences;
+            }
+        }
+
+        if (differences.isEmpty()) {
+            return String.format(
+                    "an identical context was evicted, e.g.: @DirtiesContext or the cache size limit (closest: %s)",
+                    closest.getTestClass().getName());
+        }
+
+        return String.format("%s (closest: %s)", String.join(", ", differences), closest.getTestClass().getName());
+    }
+
+    static List<String> diff(MergedContextConfiguration actual, MergedContextConfiguration expected) {
+        return diff(actual, expected, Collections.emptySet());
+    }
+
+    /**
+     * Lists the differing attributes.
+     *
+     * @param actual              The configuration to explain.
+     * @param expected            The configuration compared with.
+     * @param ignoredCustomizers  The class names of the context customizers left out of the comparison.
+     * @return The differences, empty if the configurations are equal.
+     */
+    static List<String> diff(MergedContextConfiguration actual, MergedContextConfiguration expected, Set<String> ignoredCustomizers) {
+        List<String> differences = new ArrayList<>(4);
+
+        compare(differences, "classes", names(actual.getClasses()), names(expected.getClasses()));
+        compare(differences, "locations", Arrays.asList(actual.getLocations()), Arrays.asList(expected.getLocations()));
+        compare(differences, "activeProfiles", Arrays.asList(actual.getActiveProfiles()), Arrays.asList(expected.getActiveProfiles()));
+        compare(differences, "propertySourceLocations",
+                Arrays.asList(actual.getPropertySourceLocations()), Arrays.asList(expected.getPropertySourceLocations()));
+        compare(differences, "propertySourceProperties",
+                Arrays.asList(actual.getPropertySourceProperties()), Arrays.asList(expected.getPropertySourceProperties()));
+        compare(differences, "contextInitializerClasses",
+                names(actual.getContextInitializerClasses().toArray(new Class<?>[0])),
+                names(expected.getContextInitializerClasses().toArray(new Class<?>[0])));
+        compareCustomizers(differences,
+                customizers(actual.getContextCustomizers(), ignoredCustomizers),
+                customizers(expected.getContextCustomizers(), ignoredCustomizers));
+        compare(differences, "contextLoader", className(actual.getContextLoader()), className(expected.getContextLoader()));
+        compare(differences, "resourceBasePath", resourceBasePath(actual), resourceBasePath(expected));
+        if (!Objects.equals(actual.getParent(), expected.getParent())) {
+            differences.add("parent");
+        }
+
+        return differences;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void compare(List<String> differences, String attribute, Object actual, Object expected) {
+        if (!Objects.equals(actual, expected)) {
+            differences.add(String.format("%s %s vs %s", attribute, actual, expected));
+        }
+    }
+
+    private static void compareCustomizers(List<String> differences, Set<ContextCustomizer> actual, Set<ContextCustomizer> expected) {
+        if (actual.equals(expected)) {
+            return;
+        }
+
+        Set<String> added = customizerNames(actual, expected);
+        Set<String> removed = customizerNames(expected, actual);
+
+        // The same customizer type on both sides, configured differently, e.g.: other mock beans.
+        Set<String> changed = new TreeSet<>(added);
+        changed.retainAll(removed);
+        added.removeAll(changed);
+        removed.removeAll(changed);
+
+        StringBuilder difference = new StringBuilder("contextCustomizers");
+        if (!added.isEmpty()) {
+            difference.append(" +").append(added);
+        }
+        if (!removed.isEmpty()) {
+            difference.append(" -").append(removed);
+        }
+        if (!changed.isEmpty()) {
+            difference.append(" ~").append(changed);
+        }
+
+        differences.add(difference.toString());
+    }
+
+    private static Set<ContextCustomizer> customizers(Set<ContextCustomizer> customizers, Set<String> ignored) {
+        if (ignored.isEmpty()) {
+            return customizers;
+        }
+
+        return customizers.stream()
+                .filter((customizer) -> !ignored.contains(customizer.getClass().getName()))
+                .collect(Collectors.toSet());
+    }
+
+    private static Set<String> customizerNames(Set<ContextCustomizer> customizers, Set<ContextCustomizer> others) {
+        return customizers.stream()
+                .filter((customizer) -> !others.contains(customizer))
+                .map(ContextConfigurationDiff::className)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    private static List<String> names(Class<?>[] classes) {
+        return Arrays.stream(classes).map(Class::getName).collect(Collectors.toList());
+    }
+
+    private static String className(Object target) {
+        return null == target ? null : target.getClass().getSimpleName();
+    }
+
+    private static String resourceBasePath(MergedContextConfiguration configuration) {
+        if (configuration instanceof WebMergedContextConfiguration) {
+            return ((WebMergedContextConfiguration) configuration).getResourceBasePath();
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.springframework.test.context.TestContextManager;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code ContextPrewarmer}
+ * <p>
+ * Loads the application contexts of the test classes named by the {@value #PREWARM_PROPERTY} system property
+ * into Spring's test context cache on a background thread, as soon as the JUnit launcher session opens,
+ * so the context starts while the tests are discovered, e.g.:
+ * {@code -Dmock.tester.context.prewarm=io.github.photowey.AppTest}.
+ * <p>
+ * A test class requesting a context being prewarmed waits for it rather than loading it again.
+ * Once the tests were executed, resets the {@link ContextCacheReport}, after logging its summary
+ * if the {@value #REPORT_PROPERTY} system property is true.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class ContextPrewarmer implements LauncherSessionListener {
+
+    public static final String PREWARM_PROPERTY = "mock.tester.context.prewarm";
+    public static final String REPORT_PROPERTY = "mock.tester.context.report";
+
+    private static final Log log = LogFactory.getLog(ContextPrewarmer.class);
+
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        String testClasses = System.getProperty(PREWARM_PROPERTY);
+        // A launcher may open a session per discovery and execution request.
+        if (!StringUtils.hasText(testClasses) || !STARTED.compareAndSet(false, true)) {
+            return;
+        }
+
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+        Thread thread = new Thread(() -> ContextCacheReport.background(() -> prewarm(testClasses, classLoader)), "mock-tester-context-prewarm");
+        thread.setDaemon(true);
+        thread.setContextClassLoader(classLoader);
+        thread.start();
+    }
+
+    @Override
+    public void launcherSessionClosed(LauncherSession session) {
+        // Kept across a discovery-only session, so a context prewarmed meanwhile is still reported.
+        if (0 == ContextCacheReport.hits() + ContextCacheReport.misses()) {
+            return;
+        }
+
+        if (Boolean.getBoolean(REPORT_PROPERTY)) {
+            log.info(ContextCacheReport.summary());
+        }
+        ContextCacheReport.reset();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void prewarm(String testClasses, ClassLoader classLoader) {
+        for (String testClass : StringUtils.commaDelimitedListToStringArray(testClasses)) {
+            long started = System.nanoTime();
+            try {
+                new TestContextManager(ClassUtils.forName(testClass.trim(), classLoader)).getTestContext().getApplicationContext();
+                if (log.isInfoEnabled()) {
+                    log.info(String.format("Prewarmed the context of %s in %d ms", testClass.trim(), (System.nanoTime() - started) / 1_000_000));
+                }
+            } catch (Throwable e) {
+                // The test class reports the failure once it loads the context itself.
+                log.warn("Failed to prewarm the context of " + testClass.trim(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.BootstrapWith;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@code SharedContext}
+ * <p>
+ * Runs a test class in the application context of an anchor test class, replacing {@code @SpringBootTest}:
+ * <pre>
+ * &#64;SpringBootTest(classes = App.class)
+ * abstract class AppTest extends AbstractAPITester { }
+ *
+ * &#64;SharedContext(AppTest.class)
+ * class HelloTest extends AbstractAPITester { }
+ * </pre>
+ * The test class takes the {@code @SpringBootTest} of its anchor. Its own context configuration, e.g.:
+ * {@code @ActiveProfiles}, {@code @TestPropertySource} or {@code @MockBean}, must be the anchor's,
+ * otherwise the test class fails with the differences instead of silently starting another context.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@BootstrapWith(SharedContextBootstrapper.class)
+@ExtendWith(SpringExtension.class)
+public @interface SharedContext {
+
+    /**
+     * The anchor test class, annotated with {@code @SpringBootTest} or another {@code @SharedContext}.
+     *
+     * @return The anchor test class.
+     */
+    Class<?> value();
+}
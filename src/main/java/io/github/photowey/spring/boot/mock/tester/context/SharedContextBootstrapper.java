@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTestContextBootstrapper;
+import org.springframework.test.context.CacheAwareContextLoaderDelegate;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.TestContextAnnotationUtils;
+import org.springframework.test.context.support.DefaultBootstrapContext;
+import org.springframework.test.context.support.DefaultTestContext;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code SharedContextBootstrapper}
+ * <p>
+ * Builds the {@link MergedContextConfiguration} of a {@link SharedContext} test class from its anchor,
+ * so every test class of the same anchor resolves the same cached context.
+ * <p>
+ * Fails with an {@link IllegalStateException} listing the differences if the own configuration of the test class,
+ * e.g.: {@code @ActiveProfiles}, {@code @TestPropertySource} or {@code @MockBean}, is not the anchor's.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class SharedContextBootstrapper extends SpringBootTestContextBootstrapper {
+
+    /**
+     * The customizers derived from the {@link SpringBootTest} annotation itself, which only the anchor declares,
+     * and the reporting one, which a plain anchor lacks.
+     */
+    private static final Set<String> SPRING_BOOT_TEST_CUSTOMIZERS = new HashSet<>(Arrays.asList(
+            "org.springframework.boot.test.context.SpringBootTestArgs",
+            "org.springframework.boot.test.context.SpringBootTestWebEnvironment",
+            "org.springframework.boot.test.web.client.TestRestTemplateContextCustomizer",
+            "org.springframework.boot.test.web.reactive.server.WebTestClientContextCustomizer",
+            ContextCacheReportingCustomizerFactory.ReportingCustomizer.class.getName()
+    ));
+
+    @Override
+    public TestContext buildTestContext() {
+        Class<?> testClass = this.getBootstrapContext().getTestClass();
+        Class<?> anchor = resolveAnchor(testClass);
+        if (anchor == testClass) {
+            return super.buildTestContext();
+        }
+
+        CacheAwareContextLoaderDelegate loaderDelegate = this.getBootstrapContext().getCacheAwareContextLoaderDelegate();
+        SpringBootTestContextBootstrapper delegate = new SpringBootTestContextBootstrapper();
+        delegate.setBootstrapContext(new DefaultBootstrapContext(anchor, loaderDelegate));
+
+        MergedContextConfiguration configuration = delegate.buildMergedContextConfiguration();
+        // Only the own declarations of the test class are compared, e.g.: @ActiveProfiles or @MockBean.
+        List<String> differences = ContextConfigurationDiff.diff(super.buildMergedContextConfiguration(), configuration, SPRING_BOOT_TEST_CUSTOMIZERS);
+        if (!differences.isEmpty()) {
+            throw new IllegalStateException(String.format(
+                    "The context configuration of %s is not compatible with its @SharedContext anchor %s: %s",
+                    testClass.getName(), anchor.getName(), String.join(", ", differences)));
+        }
+
+        // The anchor's context carries its attributes, e.g.: the activation of the servlet listener.
+        TestContext anchorContext = delegate.buildTestContext();
+        TestContext testContext = new DefaultTestContext(testClass, configuration, loaderDelegate);
+        for (String name : anchorContext.attributeNames()) {
+            testContext.setAttribute(name, anchorContext.getAttribute(name));
+        }
+
+        return testContext;
+    }
+
+    /**
+     * Takes the {@link SpringBootTest} of the anchor, e.g.: its classes, properties and web environment,
+     * so the own configuration of the test class can be compared with the anchor's.
+     */
+    @Override
+    protected SpringBootTest getAnnotation(Class<?> testClass) {
+        SpringBootTest annotation = super.getAnnotation(testClass);
+
+        return null != annotation ? annotation : super.getAnnotation(resolveAnchor(testClass));
+    }
+
+    @Override
+    protected String getDifferentiatorPropertySourceProperty() {
+        return SpringBootTestContextBootstrapper.class.getName() + "=true";
+    }
+
+    // ----------------------------------------------------------------
+
+    static Class<?> resolveAnchor(Class<?> testClass) {
+        Set<Class<?>> visited = new LinkedHashSet<>();
+        visited.add(testClass);
+
+        Class<?> anchor = testClass;
+        while (true) {
+            SharedContext shared = TestContextAnnotationUtils.findMergedAnnotation(anchor, SharedContext.class);
+            if (null == shared || shared.value() == anchor) {
+                return anchor;
+            }
+
+            anchor = shared.value();
+            if (!visited.add(anchor)) {
+                throw new IllegalStateException("Cyclic @SharedContext anchors: " + visited);
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.load;
+
+import java.time.Duration;
+
+/**
+ * {@code LatencyHistogram}
+ * <p>
+ * A compact, HdrHistogram-style latency histogram with log-linear buckets.
+ * <p>
+ * Values below {@code 128} are recorded exactly, larger values are recorded with 7 significant bits: a bucket is at
+ * most {@code 1/64} of its lowest value wide, i.e. a relative error below 1.6%(the worst case is just above a power of
+ * two, e.g.: {@code 2^20} is reported as {@code 65 * 2^14 - 1}). The histogram is not thread-safe, record into one
+ * histogram per thread and {@link #merge(LatencyHistogram)} them afterwards.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+
+    private long count;
+    private long total;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    /**
+     * Records a value in nanoseconds.
+     *
+     * @param nanos The value, negative values are recorded as {@code 0}.
+     */
+    public void record(long nanos) {
+        long value = Math.max(0L, nanos);
+
+        this.counts[indexOf(value)]++;
+        this.count++;
+        this.total += value;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+    }
+
+    /**
+     * Adds the values recorded by another histogram into this one.
+     *
+     * @param that The other histogram.
+     * @return This histogram.
+     */
+    public LatencyHistogram merge(LatencyHistogram that) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.counts[i] += that.counts[i];
+        }
+
+        this.count += that.count;
+        this.total += that.total;
+        this.min = Math.min(this.min, that.min);
+        this.max = Math.max(this.max, that.max);
+
+        return this;
+    }
+
+    public long count() {
+        return this.count;
+    }
+
+    public long min() {
+        return 0 == this.count ? 0L : this.min;
+    }
+
+    public long max() {
+        return this.max;
+    }
+
+    public double mean() {
+        return 0 == this.count ? 0D : (double) this.total / this.count;
+    }
+
+    /**
+     * Returns the value at the given percentile, in nanoseconds.
+     *
+     * @param percentile The percentile, in {@code [0, 100]}.
+     * @return The highest value equivalent to the bucket of the percentile.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (0 == this.count) {
+            return 0L;
+        }
+
+        double p = Math.min(100D, Math.max(0D, percentile));
+        long target = Math.max(1L, (long) Math.ceil(p / 100D * this.count));
+
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += this.counts[i];
+            if (seen >= target) {
+                return Math.max(this.min(), Math.min(highestEquivalentValue(i), this.max));
+            }
+        }
+
+        return this.max;
+    }
+
+    public Duration p50() {
+        return Duration.ofNanos(this.valueAtPercentile(50D));
+    }
+
+    public Duration p90() {
+        return Duration.ofNanos(this.valueAtPercentile(90D));
+    }
+
+    public Duration p99() {
+        return Duration.ofNanos(this.valueAtPercentile(99D));
+    }
+
+    public Duration p999() {
+        return Duration.ofNanos(this.valueAtPercentile(99.9D));
+    }
+
+    // ----------------------------------------------------------------
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        int sub = (int) (value >>> shift);
+
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (sub - SUB_BUCKET_HALF_COUNT);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+        long sub = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+
+        return ((sub + 1) << shift) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "count=%d, min=%dns, p50=%dns, p90=%dns, p99=%dns, p999=%dns, max=%dns, mean=%.1fns",
+                this.count,
+                this.min(),
+                this.valueAtPercentile(50D),
+                this.valueAtPercentile(90D),
+                this.valueAtPercentile(99D),
+                this.valueAtPercentile(99.9D),
+                this.max,
+                this.mean()
+        );
+    }
+}
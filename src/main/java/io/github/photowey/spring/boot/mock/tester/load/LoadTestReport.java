@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.load;
+
+import java.time.Duration;
+
+/**
+ * {@code LoadTestReport}
+ * <p>
+ * The report of a load test: the throughput and the latency distribution of the in-process dispatches.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class LoadTestReport {
+
+    private final int threads;
+    private final long requests;
+    private final long errors;
+    private final Duration elapsed;
+    private final LatencyHistogram histogram;
+
+    public LoadTestReport(int threads, long requests, long errors, Duration elapsed, LatencyHistogram histogram) {
+        this.threads = threads;
+        this.requests = requests;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        this.histogram = histogram;
+    }
+
+    public int threads() {
+        return this.threads;
+    }
+
+    public long requests() {
+        return this.requests;
+    }
+
+    /**
+     * Returns the number of requests that threw an exception or did not respond with a {@code 2xx} status.
+     *
+     * @return The error count.
+     */
+    public long errors() {
+        return this.errors;
+    }
+
+    public Duration elapsed() {
+        return this.elapsed;
+    }
+
+    public LatencyHistogram histogram() {
+        return this.histogram;
+    }
+
+    /**
+     * Returns the throughput, in requests per second.
+     *
+     * @return The throughput.
+     */
+    public double throughput() {
+        long nanos = this.elapsed.toNanos();
+
+        return 0 == nanos ? 0D : this.requests * 1_000_000_000D / nanos;
+    }
+
+    public Duration p50() {
+        return this.histogram.p50();
+    }
+
+    public Duration p99() {
+        return this.histogram.p99();
+    }
+
+    public Duration p999() {
+        return this.histogram.p999();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "LoadTestReport{threads=%d, requests=%d, errors=%d, elapsed=%dms, throughput=%.1f req/s, %s}",
+                this.threads,
+                this.requests,
+                this.errors,
+                this.elapsed.toMillis(),
+                this.throughput(),
+                this.histogram
+        );
+    }
+}
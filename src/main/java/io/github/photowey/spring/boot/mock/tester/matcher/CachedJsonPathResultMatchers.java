@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.matcher;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherAssert;
+import org.springframework.test.util.AssertionErrors;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.List;
+
+/**
+ * {@code CachedJsonPathResultMatchers}
+ * <p>
+ * The JSONPath result matchers backed by {@link JsonPaths}, the assertions follow
+ * {@code org.springframework.test.util.JsonPathExpectationsHelper}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class CachedJsonPathResultMatchers {
+
+    private final String expression;
+    private final JsonPath jsonPath;
+
+    public CachedJsonPathResultMatchers(String expression) {
+        this.expression = expression;
+        this.jsonPath = JsonPaths.compile(expression);
+    }
+
+    /**
+     * Evaluates the JSONPath expression and asserts that the result is equal to the supplied value.
+     *
+     * @param expectedValue The expected value.
+     * @return The result matcher.
+     */
+    public ResultMatcher value(Object expectedValue) {
+        return (result) -> {
+            Object actualValue = this.evaluate(result);
+            if ((actualValue instanceof List) && !(expectedValue instanceof List)) {
+                List<?> actualValues = (List<?>) actualValue;
+                if (actualValues.isEmpty()) {
+                    AssertionErrors.fail("No matching value at JSON path \"" + this.expression + "\"");
+                }
+                if (actualValues.size() != 1) {
+                    AssertionErrors.fail("Got a list of values " + actualValue + " instead of the expected single value " + expectedValue);
+                }
+
+                actualValue = actualValues.get(0);
+            } else if (null != actualValue && null != expectedValue && !actualValue.getClass().equals(expectedValue.getClass())) {
+                actualValue = this.convert(actualValue, expectedValue.getClass());
+            }
+
+            AssertionErrors.assertEquals("JSON path \"" + this.expression + "\"", expectedValue, actualValue);
+        };
+    }
+
+    /**
+     * Evaluates the JSONPath expression and asserts the result with the given Hamcrest {@link Matcher}.
+     *
+     * @param matcher The matcher.
+     * @param <T>     The type of the value.
+     * @return The result matcher.
+     */
+    public <T> ResultMatcher value(Matcher<? super T> matcher) {
+        return (result) -> {
+            @SuppressWarnings("unchecked")
+            T actualValue = (T) this.evaluate(result);
+            MatcherAssert.assertThat("JSON path \"" + this.expression + "\"", actualValue, matcher);
+        };
+    }
+
+    /**
+     * Asserts that a non-null value, or a non-empty list of an indefinite path, exists at the JSONPath expression.
+     *
+     * @return The result matcher.
+     */
+    public ResultMatcher exists() {
+        return (result) -> {
+            Object value = this.evaluate(result);
+            String reason = "No value at JSON path \"" + this.expression + "\"";
+            AssertionErrors.assertTrue(reason, null != value);
+            if (!this.jsonPath.isDefinite() && value instanceof List) {
+                AssertionErrors.assertTrue(reason, !((List<?>) value).isEmpty());
+            }
+        };
+    }
+
+    /**
+     * Asserts that no value, or an empty list of an indefinite path, exists at the JSONPath expression.
+     *
+     * @return The result matcher.
+     */
+    public ResultMatcher doesNotExist() {
+        return (result) -> {
+            Object value;
+            try {
+                value = this.read(result);
+            } catch (Exception e) {
+                return;
+            }
+
+            String reason = "Expected no value at JSON path \"" + this.expression + "\" but found: " + value;
+            if (!this.jsonPath.isDefinite() && value instanceof List) {
+                AssertionErrors.assertTrue(reason, ((List<?>) value).isEmpty());
+            } else {
+                AssertionErrors.assertTrue(reason, null == value);
+            }
+        };
+    }
+
+    // ----------------------------------------------------------------
+
+    private Object evaluate(MvcResult result) throws Exception {
+        try {
+            return this.read(result);
+        } catch (Throwable e) {
+            throw new AssertionError("No value at JSON path \"" + this.expression + "\"", e);
+        }
+    }
+
+    private Object read(MvcResult result) throws Exception {
+        return this.jsonPath.read(JsonPaths.document(result), JsonPaths.configuration());
+    }
+
+    private Object convert(Object actualValue, Class<?> targetType) {
+        Configuration configuration = JsonPaths.configuration();
+        try {
+            return configuration.mappingProvider().map(actualValue, targetType, configuration);
+        } catch (Throwable e) {
+            String message = String.format(
+                    "At JSON path \"%s\", value <%s> of type <%s> cannot be converted to type <%s>",
+                    this.expression, actualValue, actualValue.getClass().getName(), targetType.getName());
+            throw new AssertionError(message, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.matcher;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+
+/**
+ * {@code JsonPathMatchers}
+ * <p>
+ * A drop-in alternative of {@code MockMvcResultMatchers.jsonPath(expression)}: the compiled expression is cached,
+ * and the response body is parsed once per request and shared by all matchers attached to it.
+ * <p>
+ * e.g.:
+ * <pre>
+ * actions.andExpect(JsonPathMatchers.jsonPath("$.code").value("200"))
+ *         .andExpect(JsonPathMatchers.jsonPath("$.data.greeting").value("Hello get.photowey"));
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class JsonPathMatchers {
+
+    private JsonPathMatchers() {
+        AssertionErrorThrower.throwz(JsonPathMatchers.class);
+    }
+
+    /**
+     * Access to response body assertions using a JSONPath expression.
+     *
+     * @param expression The JSONPath expression.
+     * @return The result matchers of the expression.
+     */
+    public static CachedJsonPathResultMatchers jsonPath(String expression) {
+        return new CachedJsonPathResultMatchers(expression);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.matcher;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import io.github.photowey.spring.boot.mock.tester.cache.ObjectReaders;
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code JsonPaths}
+ * <p>
+ * Caches the compiled {@link JsonPath}s by expression, and the parsed JSON document of a response
+ * in an attribute of its request, so all JSONPath matchers of a request share one parsed document.
+ * The document is parsed straight from the response bytes by the cached {@link ObjectReaders} reader,
+ * without decoding the body into a {@code String}.
+ * <p>
+ * Up to {@link #MAX_ENTRIES} expressions are cached, the others(e.g.: built from the values of a test) are compiled
+ * on every call.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class JsonPaths {
+
+    /**
+     * The request attribute that holds the parsed JSON document of the response.
+     */
+    public static final String DOCUMENT_ATTRIBUTE = JsonPaths.class.getName() + ".DOCUMENT";
+
+    /**
+     * The maximum number of cached expressions.
+     */
+    public static final int MAX_ENTRIES = 1024;
+
+    private static final Map<String, JsonPath> COMPILED = new ConcurrentHashMap<>();
+
+    private JsonPaths() {
+        AssertionErrorThrower.throwz(JsonPaths.class);
+    }
+
+    /**
+     * Returns the compiled {@link JsonPath} of the given expression.
+     *
+     * @param expression The JSONPath expression.
+     * @return The compiled {@link JsonPath}, cached unless {@link #MAX_ENTRIES} expressions are cached already.
+     */
+    public static JsonPath compile(String expression) {
+        JsonPath compiled = COMPILED.get(expression);
+        if (null != compiled) {
+            return compiled;
+        }
+
+        compiled = JsonPath.compile(expression);
+        if (COMPILED.size() < MAX_ENTRIES) {
+            COMPILED.putIfAbsent(expression, compiled);
+        }
+
+        return compiled;
+    }
+
+    static int size() {
+        return COMPILED.size();
+    }
+
+    /**
+     * Returns the parsed JSON document of the response, it is parsed once per request.
+     *
+     * @param result The result of the executed request.
+     * @return The parsed JSON document, made of {@link Map}s, {@link java.util.List}s and values.
+     */
+    public static Object document(MvcResult result) {
+        Object document = result.getRequest().getAttribute(DOCUMENT_ATTRIBUTE);
+        if (null == document) {
+            document = ObjectReaders.read(result.getResponse().getContentAsByteArray(), Object.class);
+            result.getRequest().setAttribute(DOCUMENT_ATTRIBUTE, document);
+        }
+
+        return document;
+    }
+
+    static Configuration configuration() {
+        return Configuration.defaultConfiguration();
+    }
+}
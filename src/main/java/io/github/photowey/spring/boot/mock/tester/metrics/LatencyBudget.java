@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+
+/**
+ * {@code LatencyBudget}
+ * <p>
+ * A latency budget of the in-process dispatch of a request: the request is repeated {@link #warmups()} times
+ * without being measured, then {@link #repetitions()} times, and the median {@link RequestPhase#DISPATCH} time of
+ * the measured repetitions must not exceed {@link #max()}.
+ * <pre>
+ * this.expectWithin(LatencyBudget.of(Duration.ofMillis(20)).warmups(5).repetitions(11),
+ *         () -&gt; this.doGetRequest(query, "/api/v1/get"));
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class LatencyBudget {
+
+    public static final int DEFAULT_WARMUPS = 3;
+    public static final int DEFAULT_REPETITIONS = 5;
+
+    private final Duration max;
+    private final int warmups;
+    private final int repetitions;
+
+    private LatencyBudget(Duration max, int warmups, int repetitions) {
+        this.max = max;
+        this.warmups = warmups;
+        this.repetitions = repetitions;
+    }
+
+    public static LatencyBudget of(Duration max) {
+        Assert.notNull(max, "The max must not be null");
+        Assert.isTrue(!max.isNegative(), "The max must not be negative");
+
+        return new LatencyBudget(max, DEFAULT_WARMUPS, DEFAULT_REPETITIONS);
+    }
+
+    public LatencyBudget warmups(int warmups) {
+        Assert.isTrue(warmups >= 0, "The warmups must not be negative");
+
+        return new LatencyBudget(this.max, warmups, this.repetitions);
+    }
+
+    public LatencyBudget repetitions(int repetitions) {
+        Assert.isTrue(repetitions > 0, "The repetitions must be greater than 0");
+
+        return new LatencyBudget(this.max, this.warmups, repetitions);
+    }
+
+    public Duration max() {
+        return this.max;
+    }
+
+    public int warmups() {
+        return this.warmups;
+    }
+
+    public int repetitions() {
+        return this.repetitions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyBudget{max=%dms, warmups=%d, repetitions=%d}", this.max.toMillis(), this.warmups, this.repetitions);
+    }
+}
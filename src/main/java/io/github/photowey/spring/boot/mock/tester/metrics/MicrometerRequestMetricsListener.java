@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code MicrometerRequestMetricsListener}
+ * <p>
+ * Records the phases of every request into a Micrometer {@link Timer} named {@link #METRIC_NAME},
+ * tagged with the {@code phase}, the {@code method}, the {@code route} and the {@code status}.
+ * <p>
+ * Requires {@code io.micrometer:micrometer-core} on the test classpath.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class MicrometerRequestMetricsListener implements RequestMetricsListener {
+
+    public static final String METRIC_NAME = "mock.tester.request";
+
+    private final MeterRegistry registry;
+
+    public MicrometerRequestMetricsListener(MeterRegistry registry) {
+        Assert.notNull(registry, "The registry must not be null");
+        this.registry = registry;
+    }
+
+    @Override
+    public void onRequest(RequestTimings timings) {
+        String method = String.valueOf(timings.method());
+        String route = String.valueOf(timings.route());
+        String status = String.valueOf(timings.status());
+
+        for (RequestPhase phase : RequestPhase.values()) {
+            Timer.builder(METRIC_NAME)
+                    .tag("phase", phase.name().toLowerCase())
+                    .tag("method", method)
+                    .tag("route", route)
+                    .tag("status", status)
+                    .register(this.registry)
+                    .record(timings.nanos(phase), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public MeterRegistry registry() {
+        return this.registry;
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+/**
+ * {@code RequestMetricsListener}
+ * <p>
+ * Receives the {@link RequestTimings} of every request executed by the tester,
+ * registered by overriding {@code AbstractAPITester#requestMetricsListeners()}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@FunctionalInterface
+public interface RequestMetricsListener {
+
+    /**
+     * Invoked once a request and its expectations completed, successfully or not.
+     *
+     * @param timings The timings of the request.
+     */
+    void onRequest(RequestTimings timings);
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@code RequestMetricsListeners}
+ * <p>
+ * The global {@link RequestMetricsListener}s, notified with the {@link RequestTimings} of every request executed by
+ * any tester, in addition to the listeners of the tester itself.
+ * <p>
+ * e.g.: the {@code SlowestRequestsExtension} registers its collector for the whole test run.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class RequestMetricsListeners {
+
+    private static final List<RequestMetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private RequestMetricsListeners() {
+        AssertionErrorThrower.throwz(RequestMetricsListeners.class);
+    }
+
+    public static void register(RequestMetricsListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static void unregister(RequestMetricsListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    public static boolean isRegistered(RequestMetricsListener listener) {
+        return LISTENERS.contains(listener);
+    }
+
+    /**
+     * Notifies the global listeners.
+     *
+     * @param timings The timings of the request.
+     */
+    public static void fire(RequestTimings timings) {
+        for (RequestMetricsListener listener : LISTENERS) {
+            listener.onRequest(timings);
+        }
+    }
+}
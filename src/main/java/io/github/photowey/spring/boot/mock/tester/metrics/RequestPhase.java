@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+/**
+ * {@code RequestPhase}
+ * <p>
+ * The phases of a request executed by the tester.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public enum RequestPhase {
+
+    /**
+     * The construction of the request builder, excluding the payload serialization.
+     */
+    BUILD,
+
+    /**
+     * The serialization of the payload into the request body.
+     */
+    SERIALIZE,
+
+    /**
+     * The time spent in the registered filters(e.g.: the Spring Security filter chain), excluding the dispatch.
+     * <p>
+     * Only recorded if there is a {@link RequestMetricsListener}, see {@link RequestTimingFilter}.
+     */
+    FILTER_CHAIN,
+
+    /**
+     * The dispatch to the handler through the {@code DispatcherServlet}.
+     * <p>
+     * Without the timing filters, it is the whole {@code MockMvc#perform} call, filters included.
+     */
+    DISPATCH,
+
+    /**
+     * The time between the initial dispatch and the async dispatch of a request,
+     * while the handler completes its {@code DeferredResult}, {@code Callable} or {@code CompletableFuture}.
+     */
+    ASYNC_WAIT,
+
+    /**
+     * The result expectations, i.e.: the status check and the predicates.
+     */
+    ASSERT,
+
+    /**
+     * The decoding of the response body returned to the caller, e.g.: into a {@code String} or a typed object.
+     * <p>
+     * Zero if the body is returned as a lazy {@code ResponseBody} or an {@code MvcResult}.
+     */
+    DECODE,
+    ;
+}
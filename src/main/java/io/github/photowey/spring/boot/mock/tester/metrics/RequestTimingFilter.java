@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * {@code RequestTimingFilter}
+ * <p>
+ * A stateless filter pair that brackets the registered filters: the {@link #outer()} one is registered first and
+ * measures the whole chain, the {@link #inner()} one is registered last and measures the dispatch.
+ * <p>
+ * Both are singletons, so the filter list keeps a stable identity for the {@code MockMvcCache}.
+ * They do nothing if the request has no {@link RequestTimings#ATTRIBUTE}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class RequestTimingFilter implements Filter {
+
+    private static final RequestTimingFilter OUTER = new RequestTimingFilter(true);
+    private static final RequestTimingFilter INNER = new RequestTimingFilter(false);
+
+    private final boolean outer;
+
+    private RequestTimingFilter(boolean outer) {
+        this.outer = outer;
+    }
+
+    public static RequestTimingFilter outer() {
+        return OUTER;
+    }
+
+    public static RequestTimingFilter inner() {
+        return INNER;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        Object attribute = request.getAttribute(RequestTimings.ATTRIBUTE);
+        if (!(attribute instanceof RequestTimings)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RequestTimings timings = (RequestTimings) attribute;
+        // A request passes the filters once per dispatch, e.g.: the async dispatch, so only this dispatch is counted.
+        long dispatched = timings.nanos(RequestPhase.DISPATCH);
+        long begin = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long elapsed = System.nanoTime() - begin;
+            if (this.outer) {
+                // The dispatch is recorded by the inner filter, the rest is spent in the filters in between.
+                timings.record(RequestPhase.FILTER_CHAIN, elapsed - (timings.nanos(RequestPhase.DISPATCH) - dispatched));
+            } else {
+                timings.record(RequestPhase.DISPATCH, elapsed);
+            }
+        }
+    }
+}
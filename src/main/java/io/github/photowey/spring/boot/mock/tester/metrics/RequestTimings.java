@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+
+/**
+ * {@code RequestTimings}
+ * <p>
+ * The time spent in each {@link RequestPhase} of one request.
+ * <p>
+ * The timings travel with the request as the {@link #ATTRIBUTE} request attribute, so the stateless
+ * {@link RequestTimingFilter}s can record the phases of the filter chain.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class RequestTimings {
+
+    /**
+     * The request attribute the timings are bound to.
+     */
+    public static final String ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final long[] nanos = new long[PHASES.length];
+
+    private HttpMethod method;
+    private String route;
+    private int status;
+
+    public RequestTimings() {
+    }
+
+    public RequestTimings(HttpMethod method, String route) {
+        this.method = method;
+        this.route = route;
+    }
+
+    /**
+     * Adds the given nanoseconds to a phase.
+     *
+     * @param phase The phase.
+     * @param nanos The elapsed nanoseconds.
+     */
+    public void record(RequestPhase phase, long nanos) {
+        this.nanos[phase.ordinal()] += nanos;
+    }
+
+    public Duration get(RequestPhase phase) {
+        return Duration.ofNanos(this.nanos[phase.ordinal()]);
+    }
+
+    public long nanos(RequestPhase phase) {
+        return this.nanos[phase.ordinal()];
+    }
+
+    /**
+     * Returns the total time of all phases.
+     *
+     * @return The total time.
+     */
+    public Duration total() {
+        long total = 0;
+        for (long value : this.nanos) {
+            total += value;
+        }
+
+        return Duration.ofNanos(total);
+    }
+
+    // ----------------------------------------------------------------
+
+    public HttpMethod method() {
+        return this.method;
+    }
+
+    public void method(HttpMethod method) {
+        this.method = method;
+    }
+
+    /**
+     * Returns the route of the request: the matched handler pattern(e.g.: {@code /api/v1/users/{id}}) once dispatched,
+     * the request URI otherwise.
+     *
+     * @return The route.
+     */
+    public String route() {
+        return this.route;
+    }
+
+    public void route(String route) {
+        this.route = route;
+    }
+
+    public int status() {
+        return this.status;
+    }
+
+    public void status(int status) {
+        this.status = status;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(128)
+                .append("RequestTimings{")
+                .append(this.method).append(' ').append(this.route)
+                .append(", status=").append(this.status);
+        for (RequestPhase phase : PHASES) {
+            buf.append(", ").append(phase.name().toLowerCase()).append('=')
+                    .append(String.format("%.3fms", this.nanos[phase.ordinal()] / 1_000_000D));
+        }
+
+        return buf.append('}').toString();
+    }
+}
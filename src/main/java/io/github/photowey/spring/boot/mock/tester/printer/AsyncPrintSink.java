@@ -0,0 +1,139 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.printer;
+
+import java.io.PrintStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code AsyncPrintSink}
+ * <p>
+ * A bounded, asynchronous sink that writes formatted outputs to {@link System#out} on a daemon thread.
+ * <p>
+ * Outputs offered while the queue is full are dropped and counted, the sink never blocks the caller.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class AsyncPrintSink {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final long DEFAULT_FLUSH_TIMEOUT_MILLIS = 5_000L;
+
+    private static final AsyncPrintSink INSTANCE = new AsyncPrintSink(DEFAULT_CAPACITY, System.out);
+
+    private final BlockingQueue<String> queue;
+    private final PrintStream out;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+
+    AsyncPrintSink(int capacity, PrintStream out) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.out = out;
+
+        Thread writer = new Thread(this::drain, "mock-tester-printer");
+        writer.setDaemon(true);
+        writer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> this.flush(DEFAULT_FLUSH_TIMEOUT_MILLIS), "mock-tester-printer-shutdown"));
+    }
+
+    public static AsyncPrintSink get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Offers an output to the sink.
+     *
+     * @param output The formatted output.
+     * @return true if the output is accepted, false if it is dropped.
+     */
+    public boolean offer(String output) {
+        this.pending.incrementAndGet();
+        if (this.queue.offer(output)) {
+            return true;
+        }
+
+        this.pending.decrementAndGet();
+        this.dropped.incrementAndGet();
+
+        return false;
+    }
+
+    /**
+     * Waits until all accepted outputs are written.
+     */
+    public void flush() {
+        this.flush(DEFAULT_FLUSH_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Waits until all accepted outputs are written, or the timeout elapses.
+     *
+     * @param timeoutMillis The timeout in milliseconds.
+     */
+    public void flush(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (this.pending.get() > 0 && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(1L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        this.out.flush();
+    }
+
+    /**
+     * Returns the number of dropped outputs.
+     *
+     * @return The dropped count.
+     */
+    public long dropped() {
+        return this.dropped.get();
+    }
+
+    private void drain() {
+        long reported = 0L;
+        while (!Thread.currentThread().isInterrupted()) {
+            String output;
+            try {
+                output = this.queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                long dropped = this.dropped.get();
+                if (dropped > reported) {
+                    this.out.println(String.format("[mock-tester] %d outputs dropped, the print queue is full.", dropped - reported));
+                    reported = dropped;
+                }
+
+                this.out.println(output);
+            } finally {
+                this.pending.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.printer;
+
+/**
+ * {@code PrintPolicy}
+ * <p>
+ * Determines when the request and response of an executed request are printed.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public enum PrintPolicy {
+
+    /**
+     * Never print.
+     */
+    NEVER,
+
+    /**
+     * Print only when the status check or an assertion on the result fails.
+     * The happy path does not format anything.
+     */
+    ON_FAILURE,
+
+    /**
+     * Always print.
+     */
+    ALWAYS,
+    ;
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.printer;
+
+import org.springframework.test.web.servlet.result.PrintingResultHandler;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * {@code TruncatingPrintingResultHandler}
+ * <p>
+ * Formats the request and response like {@code MockMvcResultHandlers.print()} into a {@link StringBuilder},
+ * values longer than the limit(e.g.: the bodies) are truncated.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class TruncatingPrintingResultHandler extends PrintingResultHandler {
+
+    public TruncatingPrintingResultHandler(StringBuilder buffer, int limit) {
+        super(new TruncatingResultValuePrinter(buffer, limit));
+    }
+
+    private static final class TruncatingResultValuePrinter implements ResultValuePrinter {
+
+        private final StringBuilder buffer;
+        private final int limit;
+
+        private TruncatingResultValuePrinter(StringBuilder buffer, int limit) {
+            this.buffer = buffer;
+            this.limit = limit;
+        }
+
+        @Override
+        public void printHeading(String heading) {
+            this.buffer.append(System.lineSeparator())
+                    .append(String.format("%s:", heading))
+                    .append(System.lineSeparator());
+        }
+
+        @Override
+        public void printValue(String label, Object value) {
+            if (null != value && value.getClass().isArray()) {
+                value = CollectionUtils.arrayToList(value);
+            }
+
+            this.buffer.append(String.format("%17s = %s", label, this.truncate(value)))
+                    .append(System.lineSeparator());
+        }
+
+        private Object truncate(Object value) {
+            if (!(value instanceof CharSequence) || this.limit < 0) {
+                return value;
+            }
+
+            CharSequence text = (CharSequence) value;
+            if (text.length() <= this.limit) {
+                return value;
+            }
+
+            return text.subSequence(0, this.limit) + "...(" + (text.length() - this.limit) + " chars truncated)";
+        }
+    }
+}
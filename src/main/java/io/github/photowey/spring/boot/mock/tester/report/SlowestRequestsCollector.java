@@ -0,0 +1,266 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.report;
+
+import io.github.photowey.spring.boot.mock.tester.load.LatencyHistogram;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestMetricsListener;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestPhase;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestTimings;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code SlowestRequestsCollector}
+ * <p>
+ * Collects the {@link RequestTimings} of every request: the top-N slowest requests, and a {@link LatencyHistogram}
+ * per route. The report is written as {@link #JSON_FILE} and {@link #MARKDOWN_FILE}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class SlowestRequestsCollector implements RequestMetricsListener {
+
+    public static final String JSON_FILE = "slowest-requests.json";
+    public static final String MARKDOWN_FILE = "slowest-requests.md";
+
+    private static final Comparator<RequestTimings> BY_TOTAL = Comparator.comparingLong(SlowestRequestsCollector::totalNanos);
+
+    private final int top;
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final PriorityQueue<RequestTimings> slowest;
+
+    public SlowestRequestsCollector(int top) {
+        Assert.isTrue(top > 0, "The top must be greater than 0");
+        this.top = top;
+        this.slowest = new PriorityQueue<>(top + 1, BY_TOTAL);
+    }
+
+    @Override
+    public void onRequest(RequestTimings timings) {
+        long nanos = totalNanos(timings);
+        String key = timings.method() + " " + timings.route();
+        this.routes.computeIfAbsent(key, RouteStats::new).record(nanos);
+
+        synchronized (this.slowest) {
+            if (this.slowest.size() < this.top) {
+                this.slowest.add(timings);
+            } else if (nanos > totalNanos(this.slowest.peek())) {
+                this.slowest.poll();
+                this.slowest.add(timings);
+            }
+        }
+    }
+
+    /**
+     * Returns the slowest requests, the slowest first.
+     *
+     * @return The slowest requests.
+     */
+    public List<RequestTimings> slowest() {
+        List<RequestTimings> snapshot;
+        synchronized (this.slowest) {
+            snapshot = new ArrayList<>(this.slowest);
+        }
+        snapshot.sort(BY_TOTAL.reversed());
+
+        return snapshot;
+    }
+
+    /**
+     * Returns the statistics of every route, the one with the largest total time first.
+     *
+     * @return The route statistics.
+     */
+    public List<RouteStats> routes() {
+        List<RouteStats> snapshot = new ArrayList<>(this.routes.values());
+        snapshot.sort(Comparator.comparingLong(RouteStats::totalNanos).reversed());
+
+        return snapshot;
+    }
+
+    /**
+     * Writes the JSON and the Markdown reports into the given directory.
+     *
+     * @param directory The report directory, created if absent.
+     * @throws IOException If the report cannot be written.
+     */
+    public void writeTo(Path directory) throws IOException {
+        Files.createDirectories(directory);
+
+        List<RequestTimings> slowest = this.slowest();
+        List<RouteStats> routes = this.routes();
+
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE), StandardCharsets.UTF_8)) {
+            Jackson.getObjectMapper().writerWithDefaultPrettyPrinter().writeValue(writer, this.toJson(slowest, routes));
+        }
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(MARKDOWN_FILE), StandardCharsets.UTF_8)) {
+            writer.write(this.toMarkdown(slowest, routes));
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private Map<String, Object> toJson(List<RequestTimings> slowest, List<RouteStats> routes) {
+        List<Map<String, Object>> requests = new ArrayList<>(slowest.size());
+        for (RequestTimings timings : slowest) {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("method", String.valueOf(timings.method()));
+            request.put("route", timings.route());
+            request.put("status", timings.status());
+            request.put("totalMs", millis(totalNanos(timings)));
+            for (RequestPhase phase : RequestPhase.values()) {
+                request.put(phase.name().toLowerCase(Locale.ROOT) + "Ms", millis(timings.nanos(phase)));
+            }
+            requests.add(request);
+        }
+
+        List<Map<String, Object>> histograms = new ArrayList<>(routes.size());
+        for (RouteStats stats : routes) {
+            histograms.add(stats.toMap());
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("slowest", requests);
+        json.put("routes", histograms);
+
+        return json;
+    }
+
+    private String toMarkdown(List<RequestTimings> slowest, List<RouteStats> routes) {
+        StringBuilder md = new StringBuilder(4096);
+        md.append("# Slowest requests\n\n")
+                .append("| # | Method | Route | Status | Total(ms) |");
+        for (RequestPhase phase : RequestPhase.values()) {
+            md.append(' ').append(title(phase)).append(" |");
+        }
+        md.append("\n|---|---|---|---|---|");
+        for (int i = 0; i < RequestPhase.values().length; i++) {
+            md.append("---|");
+        }
+        md.append('\n');
+
+        int rank = 1;
+        for (RequestTimings timings : slowest) {
+            md.append("| ").append(rank++)
+                    .append(" | ").append(timings.method())
+                    .append(" | `").append(timings.route()).append('`')
+                    .append(" | ").append(timings.status())
+                    .append(" | ").append(millis(totalNanos(timings)));
+            for (RequestPhase phase : RequestPhase.values()) {
+                md.append(" | ").append(millis(timings.nanos(phase)));
+            }
+            md.append(" |\n");
+        }
+
+        md.append("\n# Routes\n\n")
+                .append("| Route | Count | Total(ms) | Mean | p50 | p90 | p99 | p99.9 | Max |\n")
+                .append("|---|---|---|---|---|---|---|---|---|\n");
+        for (RouteStats stats : routes) {
+            Map<String, Object> row = stats.toMap();
+            md.append("| `").append(row.get("route")).append('`')
+                    .append(" | ").append(row.get("count"))
+                    .append(" | ").append(row.get("totalMs"))
+                    .append(" | ").append(row.get("meanMs"))
+                    .append(" | ").append(row.get("p50Ms"))
+                    .append(" | ").append(row.get("p90Ms"))
+                    .append(" | ").append(row.get("p99Ms"))
+                    .append(" | ").append(row.get("p999Ms"))
+                    .append(" | ").append(row.get("maxMs"))
+                    .append(" |\n");
+        }
+
+        return md.toString();
+    }
+
+    /**
+     * e.g.: {@code FILTER_CHAIN} -> {@code Filter chain}.
+     */
+    private static String title(RequestPhase phase) {
+        String name = phase.name().replace('_', ' ').toLowerCase(Locale.ROOT);
+
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static long totalNanos(RequestTimings timings) {
+        return timings.total().toNanos();
+    }
+
+    private static double millis(double nanos) {
+        return Math.round(nanos / 1_000D) / 1_000D;
+    }
+
+    /**
+     * The latency distribution of one route.
+     */
+    public static class RouteStats {
+
+        private final String route;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private long totalNanos;
+
+        RouteStats(String route) {
+            this.route = route;
+        }
+
+        private synchronized void record(long nanos) {
+            this.histogram.record(nanos);
+            this.totalNanos += nanos;
+        }
+
+        public String route() {
+            return this.route;
+        }
+
+        public synchronized long count() {
+            return this.histogram.count();
+        }
+
+        public synchronized long totalNanos() {
+            return this.totalNanos;
+        }
+
+        private synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("route", this.route);
+            map.put("count", this.histogram.count());
+            map.put("totalMs", millis(this.totalNanos));
+            map.put("meanMs", millis(this.histogram.mean()));
+            map.put("p50Ms", millis(this.histogram.valueAtPercentile(50D)));
+            map.put("p90Ms", millis(this.histogram.valueAtPercentile(90D)));
+            map.put("p99Ms", millis(this.histogram.valueAtPercentile(99D)));
+            map.put("p999Ms", millis(this.histogram.valueAtPercentile(99.9D)));
+            map.put("maxMs", millis(this.histogram.max()));
+
+            return map;
+        }
+    }
+}
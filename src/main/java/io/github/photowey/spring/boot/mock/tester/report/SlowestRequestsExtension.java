@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.report;
+
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestMetricsListeners;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * {@code SlowestRequestsExtension}
+ * <p>
+ * A JUnit 5 extension that collects the timings of every request executed by the testers during the whole test run,
+ * and writes the top-N slowest requests and the per-route latency histograms into
+ * {@code target/mock-tester/slowest-requests.{json,md}} once the run completes.
+ * <p>
+ * Register it with {@code @ExtendWith(SlowestRequestsExtension.class)} on the test classes(or a shared base class),
+ * the collector is shared by all of them. The report is tuned by the system properties {@link #REPORT_DIR_PROPERTY}
+ * and {@link #TOP_PROPERTY}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class SlowestRequestsExtension implements BeforeAllCallback {
+
+    public static final String REPORT_DIR_PROPERTY = "mock.tester.report.dir";
+    public static final String TOP_PROPERTY = "mock.tester.report.top";
+
+    public static final String DEFAULT_REPORT_DIR = "target/mock-tester";
+    public static final int DEFAULT_TOP = 20;
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(SlowestRequestsExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        // The root store is closed once the whole test run completes.
+        context.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Session.class, (key) -> new Session(), Session.class);
+    }
+
+    /**
+     * Returns the collector of the current test run.
+     *
+     * @param context Any extension context of the run.
+     * @return The collector, or null if the extension is not active.
+     */
+    public static SlowestRequestsCollector collector(ExtensionContext context) {
+        Session session = context.getRoot().getStore(NAMESPACE).get(Session.class, Session.class);
+
+        return null != session ? session.collector : null;
+    }
+
+    private static final class Session implements ExtensionContext.Store.CloseableResource {
+
+        private final SlowestRequestsCollector collector;
+        private final Path directory;
+
+        private Session() {
+            this.collector = new SlowestRequestsCollector(Integer.getInteger(TOP_PROPERTY, DEFAULT_TOP));
+            this.directory = Paths.get(System.getProperty(REPORT_DIR_PROPERTY, DEFAULT_REPORT_DIR));
+
+            RequestMetricsListeners.register(this.collector);
+        }
+
+        @Override
+        public void close() throws Throwable {
+            RequestMetricsListeners.unregister(this.collector);
+            this.collector.writeTo(this.directory);
+        }
+    }
+}
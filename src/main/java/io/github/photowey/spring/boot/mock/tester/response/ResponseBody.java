@@ -0,0 +1,167 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.response;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.cache.ObjectReaders;
+import io.github.photowey.spring.boot.mock.tester.matcher.JsonPaths;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code ResponseBody}
+ * <p>
+ * A lazy view of the response body of an executed request.
+ * <p>
+ * Nothing is copied or decoded until it is asked for. {@link #bytes()}, {@link #stream()} and {@link #size()} share one
+ * copy of the response buffer, made on the first call: the {@link MockHttpServletResponse} exposes no view of it.
+ * {@link #string()} decodes straight from the response buffer, without that copy, unless the bytes are copied already.
+ * {@link #as(Class)} binds the JSONPath document if the predicates parsed one, otherwise it deserializes the copied
+ * bytes with a cached {@link com.fasterxml.jackson.databind.ObjectReader}, without the intermediate {@link String}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class ResponseBody {
+
+    private final MvcResult result;
+
+    private byte[] bytes;
+    private String string;
+
+    public ResponseBody(MvcResult result) {
+        this.result = result;
+    }
+
+    public MvcResult result() {
+        return this.result;
+    }
+
+    public MockHttpServletResponse response() {
+        return this.result.getResponse();
+    }
+
+    public int status() {
+        return this.response().getStatus();
+    }
+
+    /**
+     * Returns the raw bytes of the body, they are copied from the response buffer once.
+     *
+     * @return The raw bytes.
+     */
+    public byte[] bytes() {
+        if (null == this.bytes) {
+            this.bytes = this.response().getContentAsByteArray();
+        }
+
+        return this.bytes;
+    }
+
+    /**
+     * Returns the body as an {@link InputStream} over the raw bytes.
+     *
+     * @return The input stream.
+     */
+    public InputStream stream() {
+        return new ByteArrayInputStream(this.bytes());
+    }
+
+    /**
+     * Returns the number of bytes of the body.
+     *
+     * @return The size of the body.
+     */
+    public int size() {
+        return this.bytes().length;
+    }
+
+    /**
+     * Returns the body decoded with the charset of the response, UTF-8 by default. It is decoded once.
+     *
+     * @return The decoded body.
+     */
+    public String string() {
+        if (null == this.string) {
+            this.string = null != this.bytes ? new String(this.bytes, this.charset()) : this.decode();
+        }
+
+        return this.string;
+    }
+
+    /**
+     * Deserializes the body into the given type.
+     * <p>
+     * If the JSONPath predicates of the request parsed the body already, the parsed document is bound to the type,
+     * otherwise the bytes are parsed with a streaming parser.
+     *
+     * @param type The target type.
+     * @param <R>  The target type.
+     * @return The deserialized body.
+     */
+    public <R> R as(Class<R> type) {
+        Object document = this.document();
+
+        return null != document ? ObjectReaders.convert(document, type) : ObjectReaders.read(this.bytes(), type);
+    }
+
+    /**
+     * Deserializes the body into the given generic type.
+     * <p>
+     * If the JSONPath predicates of the request parsed the body already, the parsed document is bound to the type,
+     * otherwise the bytes are parsed with a streaming parser.
+     *
+     * @param type The target type reference, e.g.: {@code new TypeReference<ApiResult<GreetingDTO>>() {}}
+     * @param <R>  The target type.
+     * @return The deserialized body.
+     */
+    public <R> R as(TypeReference<R> type) {
+        Object document = this.document();
+
+        return null != document ? ObjectReaders.convert(document, type) : ObjectReaders.read(this.bytes(), type);
+    }
+
+    private Charset charset() {
+        String encoding = this.response().getCharacterEncoding();
+
+        return this.response().isCharset() ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+
+    private String decode() {
+        try {
+            return this.response().getContentAsString(StandardCharsets.UTF_8);
+        } catch (UnsupportedEncodingException e) {
+            throw new UncheckedIOException("Unsupported charset of the response body", e);
+        }
+    }
+
+    private Object document() {
+        return this.result.getRequest().getAttribute(JsonPaths.DOCUMENT_ATTRIBUTE);
+    }
+
+    @Override
+    public String toString() {
+        return this.string();
+    }
+}
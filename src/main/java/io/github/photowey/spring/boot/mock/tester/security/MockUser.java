@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * {@code MockUser}
+ * <p>
+ * The declaration of a mock principal, registered once into {@link MockUsers}:
+ * <pre>
+ * MockUsers.register(MockUser.of("admin").roles("ADMIN"));
+ * MockUsers.register(MockUser.of("jwt", () -&gt; jwtAuthentication()));
+ * </pre>
+ * The {@link Authentication} is built on the first use and cached.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class MockUser {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final String name;
+    private final List<String> authorities;
+    private final Supplier<? extends Authentication> factory;
+
+    private MockUser(String name, List<String> authorities, Supplier<? extends Authentication> factory) {
+        this.name = name;
+        this.authorities = Collections.unmodifiableList(authorities);
+        this.factory = factory;
+    }
+
+    /**
+     * Declares a username/password principal.
+     *
+     * @param name The username.
+     * @return A new declaration without authorities.
+     */
+    public static MockUser of(String name) {
+        Assert.hasText(name, "The name must not be empty");
+
+        return new MockUser(name, Collections.emptyList(), null);
+    }
+
+    /**
+     * Declares a principal with a custom {@link Authentication}, e.g.: a parsed JWT.
+     *
+     * @param name    The name the principal is registered with.
+     * @param factory The authentication factory, invoked once.
+     * @return A new declaration.
+     */
+    public static MockUser of(String name, Supplier<? extends Authentication> factory) {
+        Assert.hasText(name, "The name must not be empty");
+        Assert.notNull(factory, "The factory must not be null");
+
+        return new MockUser(name, Collections.emptyList(), factory);
+    }
+
+    /**
+     * Returns a copy with the given roles appended, prefixed with {@code ROLE_}.
+     *
+     * @param roles The roles.
+     * @return A new declaration.
+     */
+    public MockUser roles(String... roles) {
+        List<String> authorities = new ArrayList<>(this.authorities);
+        for (String role : roles) {
+            Assert.isTrue(!role.startsWith(ROLE_PREFIX), () -> "The role must not start with " + ROLE_PREFIX + ": " + role);
+            authorities.add(ROLE_PREFIX + role);
+        }
+
+        return new MockUser(this.name, authorities, this.factory);
+    }
+
+    /**
+     * Returns a copy with the given authorities appended.
+     *
+     * @param authorities The authorities.
+     * @return A new declaration.
+     */
+    public MockUser authorities(String... authorities) {
+        List<String> copy = new ArrayList<>(this.authorities);
+        copy.addAll(Arrays.asList(authorities));
+
+        return new MockUser(this.name, copy, this.factory);
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    public List<String> authorities() {
+        return this.authorities;
+    }
+
+    /**
+     * Builds the {@link Authentication} of the principal.
+     *
+     * @return A new authentication.
+     */
+    Authentication build() {
+        if (null != this.factory) {
+            return this.factory.get();
+        }
+
+        List<GrantedAuthority> granted = new ArrayList<>(this.authorities.size());
+        for (String authority : this.authorities) {
+            granted.add(new SimpleGrantedAuthority(authority));
+        }
+
+        User principal = new User(this.name, "", granted);
+
+        return UsernamePasswordAuthenticationToken.authenticated(principal, principal.getPassword(), granted);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.security;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code MockUsers}
+ * <p>
+ * The registry of the {@link MockUser} fixtures: the principals are declared once, their {@link Authentication}s are
+ * built on the first use and cached for the whole test run.
+ * <p>
+ * A user is applied per request with {@link #with(String)}, through the Spring Security test support: the context
+ * travels in an attribute of the request, nothing is set on the calling thread. The security filter chain installs it
+ * into the {@link SecurityContextHolder} of the executing thread for the duration of the request only, and clears it
+ * once the request completes. So the parallel tests can use different users.
+ * Requires {@code org.springframework.security:spring-security-test} on the test classpath.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class MockUsers {
+
+    private static final Map<String, MockUser> USERS = new ConcurrentHashMap<>();
+    private static final Map<String, Authentication> AUTHENTICATIONS = new ConcurrentHashMap<>();
+
+    private MockUsers() {
+        AssertionErrorThrower.throwz(MockUsers.class);
+    }
+
+    /**
+     * Registers a mock user, replacing the one with the same name.
+     *
+     * @param user The mock user.
+     */
+    public static void register(MockUser user) {
+        USERS.put(user.name(), user);
+        AUTHENTICATIONS.remove(user.name());
+    }
+
+    /**
+     * Forgets a mock user and its cached authentication.
+     *
+     * @param name The name of the user.
+     */
+    public static void unregister(String name) {
+        USERS.remove(name);
+        AUTHENTICATIONS.remove(name);
+    }
+
+    public static boolean isRegistered(String name) {
+        return USERS.containsKey(name);
+    }
+
+    /**
+     * Returns the cached {@link Authentication} of the given user, built on the first call.
+     *
+     * @param name The name of the user.
+     * @return The cached authentication.
+     */
+    public static Authentication authentication(String name) {
+        return AUTHENTICATIONS.computeIfAbsent(name, (key) -> {
+            MockUser user = USERS.get(key);
+            if (null == user) {
+                throw new IllegalArgumentException("Unknown mock user: " + key);
+            }
+
+            return user.build();
+        });
+    }
+
+    /**
+     * Returns a new {@link SecurityContext} holding the cached {@link Authentication} of the given user.
+     * <p>
+     * The context is not shared, as the application may modify it.
+     *
+     * @param name The name of the user.
+     * @return A new security context.
+     */
+    public static SecurityContext context(String name) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication(name));
+
+        return context;
+    }
+
+    /**
+     * Returns a post processor that executes a request as the given user.
+     *
+     * @param name The name of the user.
+     * @return The request post processor.
+     */
+    public static RequestPostProcessor with(String name) {
+        return SecurityMockMvcRequestPostProcessors.securityContext(context(name));
+    }
+
+    /**
+     * Forgets all users and their cached authentications.
+     */
+    public static void clear() {
+        USERS.clear();
+        AUTHENTICATIONS.clear();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.security.web.FilterInvocation;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.FilterSecurityInterceptor;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.firewall.HttpFirewall;
+import org.springframework.security.web.firewall.RequestRejectedException;
+import org.springframework.security.web.firewall.StrictHttpFirewall;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code PermitAllBypassFilter}
+ * <p>
+ * Wraps the Spring Security {@link FilterChainProxy}, and skips the whole filter chain for the anonymous requests that
+ * are known to be permitted to anyone:
+ * <ul>
+ *     <li>the matched {@link SecurityFilterChain} has no filters, e.g.: {@code web.ignoring()}, or no chain matches.</li>
+ *     <li>the {@link FilterSecurityInterceptor} of the matched chain only requires {@code permitAll}.</li>
+ * </ul>
+ * The decision is resolved once per method and path, then cached: up to {@link #MAX_ENTRIES} routes, the others are
+ * resolved on every request. So the chains matched on the headers or the parameters of a request are not supported.
+ * Chains secured by other means(e.g.: {@code authorizeHttpRequests()}) always go through the filter chain, so do the
+ * unsafe methods(e.g.: {@code POST}) of the chains with a {@link CsrfFilter}.
+ * <p>
+ * A request carrying a principal(e.g.: the {@link MockUsers} of a request, an {@code Authorization} header, a cookie,
+ * a session or a thread-bound {@code Authentication}) or an {@code Origin} header always goes through the filter chain,
+ * so the authentication, the {@code @AuthenticationPrincipal} arguments, the method security and the CORS handling
+ * behave as without the bypass. The bypassed requests are checked by a {@link StrictHttpFirewall}, a rejected request
+ * goes through the filter chain, which rejects it in turn.
+ * <p>
+ * Bypassed requests get no security response headers, and no anonymous {@code Authentication}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class PermitAllBypassFilter implements Filter {
+
+    /**
+     * The maximum number of cached routes.
+     */
+    public static final int MAX_ENTRIES = 1024;
+
+    private static final String PERMIT_ALL = "permitAll";
+    private static final String SECURITY_ATTRIBUTE_PREFIX = "org.springframework.security.";
+    private static final String CERTIFICATE_ATTRIBUTE = "javax.servlet.request.X509Certificate";
+
+    /**
+     * The methods a {@link CsrfFilter} does not protect by default.
+     */
+    private static final Set<String> CSRF_SAFE_METHODS = new HashSet<>(Arrays.asList("GET", "HEAD", "TRACE", "OPTIONS"));
+
+    private static final Map<Filter, PermitAllBypassFilter> WRAPPERS = new WeakHashMap<>();
+
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+    private static final HttpFirewall FIREWALL = new StrictHttpFirewall();
+
+    /**
+     * Only read by the security metadata sources, which match the request.
+     */
+    private static final ServletResponse NO_RESPONSE = new MockHttpServletResponse();
+    private static final FilterChain NO_CHAIN = (request, response) -> {
+        throw new UnsupportedOperationException("Not a filter chain");
+    };
+
+    /**
+     * The wrapped filter is weakly referenced, so the {@link #WRAPPERS} entry goes away with its context.
+     */
+    private final WeakReference<Filter> delegate;
+
+    /**
+     * The decisions, keyed by the method and the path within the application.
+     */
+    private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+    private PermitAllBypassFilter(Filter delegate) {
+        this.delegate = new WeakReference<>(delegate);
+    }
+
+    /**
+     * Returns the wrapper of the given security filter, the same instance for the same filter.
+     *
+     * @param delegate The Spring Security filter chain.
+     * @return The wrapper.
+     */
+    public static PermitAllBypassFilter of(Filter delegate) {
+        synchronized (WRAPPERS) {
+            return WRAPPERS.computeIfAbsent(delegate, PermitAllBypassFilter::new);
+        }
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        Filter filter = this.delegate.get();
+        if (null == filter) {
+            throw new IllegalStateException("The Spring Security filter chain has been released");
+        }
+
+        if (request instanceof HttpServletRequest && this.isPermitAll((HttpServletRequest) request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        filter.doFilter(request, response, chain);
+    }
+
+    /**
+     * Determines if the given request can skip the security filter chain.
+     *
+     * @param request The request.
+     * @return true if the request is anonymous and permitted to anyone, false otherwise.
+     */
+    public boolean isPermitAll(HttpServletRequest request) {
+        if (!this.anonymous(request) || !this.accepted(request)) {
+            return false;
+        }
+
+        String key = request.getMethod() + " " + PATH_HELPER.getPathWithinApplication(request);
+        Boolean decision = this.decisions.get(key);
+        if (null != decision) {
+            return decision;
+        }
+
+        decision = this.permitted(request);
+        if (this.decisions.size() < MAX_ENTRIES) {
+            this.decisions.putIfAbsent(key, decision);
+        }
+
+        return decision;
+    }
+
+    int size() {
+        return this.decisions.size();
+    }
+
+    // ----------------------------------------------------------------
+
+    private boolean anonymous(HttpServletRequest request) {
+        if (null != request.getHeader(HttpHeaders.AUTHORIZATION)
+                || null != request.getHeader(HttpHeaders.ORIGIN)
+                || null != request.getCookies()
+                || null != request.getUserPrincipal()
+                || null != request.getSession(false)
+                || null != request.getAttribute(CERTIFICATE_ATTRIBUTE)
+                || null != SecurityContextHolder.getContext().getAuthentication()) {
+            return false;
+        }
+
+        // e.g.: the security context of the Spring Security test support.
+        Enumeration<String> names = request.getAttributeNames();
+        while (names.hasMoreElements()) {
+            if (names.nextElement().startsWith(SECURITY_ATTRIBUTE_PREFIX)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean accepted(HttpServletRequest request) {
+        try {
+            FIREWALL.getFirewalledRequest(request);
+            return true;
+        } catch (RequestRejectedException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves the decision of a route, against the matchers of the chains.
+     */
+    private boolean permitted(HttpServletRequest request) {
+        Filter filter = this.delegate.get();
+        if (!(filter instanceof FilterChainProxy)) {
+            return false;
+        }
+
+        HttpServletRequest pathRequest = new ApplicationPathRequest(request);
+        for (SecurityFilterChain candidate : ((FilterChainProxy) filter).getFilterChains()) {
+            if (candidate.matches(pathRequest)) {
+                return this.permitted(candidate.getFilters(), pathRequest);
+            }
+        }
+
+        // No matched chain, the FilterChainProxy passes the request through.
+        return true;
+    }
+
+    private boolean permitted(List<Filter> filters, HttpServletRequest request) {
+        if (filters.isEmpty()) {
+            return true;
+        }
+
+        FilterSecurityInterceptor interceptor = null;
+        for (Filter filter : filters) {
+            if (filter instanceof FilterSecurityInterceptor) {
+                interceptor = (FilterSecurityInterceptor) filter;
+            }
+            if (filter instanceof CsrfFilter && !CSRF_SAFE_METHODS.contains(request.getMethod())) {
+                return false;
+            }
+        }
+
+        if (null == interceptor) {
+            return false;
+        }
+
+        FilterInvocation invocation = new FilterInvocation(request, NO_RESPONSE, NO_CHAIN);
+        Collection<ConfigAttribute> attributes = interceptor.obtainSecurityMetadataSource().getAttributes(invocation);
+        if (null == attributes || attributes.isEmpty()) {
+            return false;
+        }
+
+        for (ConfigAttribute attribute : attributes) {
+            if (!PERMIT_ALL.equals(String.valueOf(attribute))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Exposes the path within the application as the servlet path, the way the security matchers resolve it.
+     */
+    private static final class ApplicationPathRequest extends HttpServletRequestWrapper {
+
+        private final String path;
+
+        private ApplicationPathRequest(HttpServletRequest request) {
+            super(request);
+            this.path = PATH_HELPER.getPathWithinApplication(request);
+        }
+
+        @Override
+        public String getServletPath() {
+            return this.path;
+        }
+
+        @Override
+        public String getPathInfo() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.security;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.ClassUtils;
+
+import java.util.concurrent.Callable;
+
+/**
+ * {@code SecurityContexts}
+ * <p>
+ * Spring Security helpers, they are no-ops if Spring Security is not on the classpath.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class SecurityContexts {
+
+    private static final boolean SECURITY_PRESENT = ClassUtils.isPresent(
+            "org.springframework.security.core.context.SecurityContextHolder",
+            SecurityContexts.class.getClassLoader()
+    );
+
+    private SecurityContexts() {
+        AssertionErrorThrower.throwz(SecurityContexts.class);
+    }
+
+    /**
+     * Determines if Spring Security is on the classpath.
+     *
+     * @return true if Spring Security is present, false otherwise.
+     */
+    public static boolean securityPresent() {
+        return SECURITY_PRESENT;
+    }
+
+    /**
+     * Clears the {@code SecurityContext} of the current thread.
+     */
+    public static void clear() {
+        if (SECURITY_PRESENT) {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    /**
+     * Wraps the given task, so it runs with the {@code SecurityContext} of the current thread,
+     * e.g.: the one populated by {@code mockUser()}.
+     *
+     * @param task The task.
+     * @param <V>  The result type of the task.
+     * @return The wrapped task, or the task itself if Spring Security is not present.
+     */
+    public static <V> Callable<V> propagate(Callable<V> task) {
+        if (SECURITY_PRESENT) {
+            return new DelegatingSecurityContextCallable<>(task, SecurityContextHolder.getContext());
+        }
+
+        return task;
+    }
+}
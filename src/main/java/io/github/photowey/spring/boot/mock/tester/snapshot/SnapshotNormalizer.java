@@ -0,0 +1,141 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.snapshot;
+
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code SnapshotNormalizer}
+ * <p>
+ * Normalizes a response body before it is hashed and stored, so the snapshots are stable and readable:
+ * <ul>
+ *     <li>JSON bodies are pretty-printed with the object keys sorted.</li>
+ *     <li>The other bodies are trimmed, and get {@code \n} line endings and no trailing whitespace on any line.</li>
+ * </ul>
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class SnapshotNormalizer {
+
+    private static final DefaultPrettyPrinter PRETTY_PRINTER = new DefaultPrettyPrinter()
+            .withObjectIndenter(new DefaultIndenter("  ", "\n"))
+            .withArrayIndenter(new DefaultIndenter("  ", "\n"));
+
+    private SnapshotNormalizer() {
+        AssertionErrorThrower.throwz(SnapshotNormalizer.class);
+    }
+
+    /**
+     * Normalizes a body.
+     *
+     * @param body The body, may be null.
+     * @return The normalized body.
+     */
+    public static String normalize(String body) {
+        if (null == body) {
+            return "";
+        }
+
+        String text = body.startsWith("\uFEFF") ? body.substring(1) : body;
+        text = text.replace("\r\n", "\n").replace('\r', '\n').trim();
+
+        if (text.startsWith("{") || text.startsWith("[")) {
+            String json = normalizeJson(text);
+            if (null != json) {
+                return json;
+            }
+        }
+
+        return stripTrailingWhitespace(text);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String stripTrailingWhitespace(String text) {
+        StringBuilder stripped = new StringBuilder(text.length());
+        int start = 0;
+        while (start <= text.length()) {
+            int end = text.indexOf('\n', start);
+            if (end < 0) {
+                end = text.length();
+            }
+
+            int last = end;
+            while (last > start && Character.isWhitespace(text.charAt(last - 1))) {
+                last--;
+            }
+            stripped.append(text, start, last);
+            if (end < text.length()) {
+                stripped.append('\n');
+            }
+            start = end + 1;
+        }
+
+        return stripped.toString();
+    }
+
+    private static String normalizeJson(String text) {
+        ObjectMapper mapper = Jackson.getObjectMapper();
+        try {
+            JsonNode tree = mapper.readTree(text);
+
+            return mapper.writer(PRETTY_PRINTER).writeValueAsString(sort(mapper, tree));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static JsonNode sort(ObjectMapper mapper, JsonNode node) {
+        if (node.isObject()) {
+            Map<String, JsonNode> fields = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+            while (iterator.hasNext()) {
+                Map.Entry<String, JsonNode> field = iterator.next();
+                fields.put(field.getKey(), sort(mapper, field.getValue()));
+            }
+
+            ObjectNode sorted = mapper.createObjectNode();
+            sorted.setAll(fields);
+
+            return sorted;
+        }
+
+        if (node.isArray()) {
+            ArrayNode sorted = mapper.createArrayNode();
+            for (JsonNode element : node) {
+                sorted.add(sort(mapper, element));
+            }
+
+            return sorted;
+        }
+
+        return node;
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.snapshot;
+
+import org.opentest4j.AssertionFailedError;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code SnapshotStore}
+ * <p>
+ * The golden responses of a test class, under {@code <root>/<fully.qualified.ClassName>/}:
+ * <ul>
+ *     <li>{@code index}: one {@code key=xxh64} line per snapshot, sorted by key.</li>
+ *     <li>{@code <key>.snap}: the normalized golden body of a snapshot.</li>
+ * </ul>
+ * The key is the snapshot name with its other characters than letters, digits, {@code .}, {@code -} and {@code _}
+ * percent-encoded, e.g.: {@code a%2Fb} for {@code a/b}, so it is a valid file name and unique per name.
+ * Only the index is loaded, once per class. A golden body is read only if the hash of the actual body differs,
+ * to report the difference. In the update mode, only the changed bodies and the index are rewritten.
+ * <p>
+ * The root is {@code src/test/resources/snapshots}, or the {@value #ROOT_PROPERTY} system property.
+ * The update mode is enabled by the {@value #UPDATE_PROPERTY} system property.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class SnapshotStore {
+
+    public static final String ROOT_PROPERTY = "mock.tester.snapshot.dir";
+    public static final String UPDATE_PROPERTY = "mock.tester.snapshot.update";
+
+    private static final String DEFAULT_ROOT = "src/test/resources/snapshots";
+    private static final String INDEX = "index";
+    private static final String EXTENSION = ".snap";
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private static final Map<Path, SnapshotStore> STORES = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final Map<String, String> index;
+
+    private SnapshotStore(Path directory) {
+        this.directory = directory;
+        this.index = readIndex(directory.resolve(INDEX));
+    }
+
+    /**
+     * Returns the store of a test class under the default root.
+     *
+     * @param testClass The test class.
+     * @return The shared store.
+     */
+    public static SnapshotStore of(Class<?> testClass) {
+        return of(Paths.get(System.getProperty(ROOT_PROPERTY, DEFAULT_ROOT)), testClass);
+    }
+
+    /**
+     * Returns the store of a test class.
+     *
+     * @param root      The root directory of the snapshots.
+     * @param testClass The test class.
+     * @return The shared store.
+     */
+    public static SnapshotStore of(Path root, Class<?> testClass) {
+        Path directory = root.resolve(testClass.getName()).toAbsolutePath().normalize();
+
+        return STORES.computeIfAbsent(directory, SnapshotStore::new);
+    }
+
+    /**
+     * Determines if the snapshots are rewritten instead of asserted.
+     *
+     * @return true if the {@value #UPDATE_PROPERTY} system property is true.
+     */
+    public static boolean updateEnabled() {
+        return Boolean.getBoolean(UPDATE_PROPERTY);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Asserts the normalized body matches the snapshot, or rewrites the snapshot in the update mode.
+     *
+     * @param name   The snapshot name, unique within the test class.
+     * @param actual The body.
+     */
+    public void assertMatches(String name, String actual) {
+        this.assertMatches(name, actual, updateEnabled());
+    }
+
+    /**
+     * Asserts the normalized body matches the snapshot, or rewrites the snapshot.
+     *
+     * @param name   The snapshot name, unique within the test class.
+     * @param actual The body.
+     * @param update Whether the snapshot is rewritten if it differs or is missing.
+     */
+    public void assertMatches(String name, String actual, boolean update) {
+        String key = sanitize(name);
+        String normalized = SnapshotNormalizer.normalize(actual);
+        byte[] bytes = normalized.getBytes(StandardCharsets.UTF_8);
+        String hash = XxHash64.toHex(XxHash64.hash(bytes));
+
+        String expectedHash;
+        synchronized (this) {
+            expectedHash = this.index.get(key);
+        }
+        if (hash.equals(expectedHash)) {
+            return;
+        }
+
+        Path file = this.directory.resolve(key + EXTENSION);
+        String expected = readBody(file);
+        if (normalized.equals(expected)) {
+            // A stale index, e.g.: the golden body is edited by hand.
+            if (update) {
+                this.updateIndex(key, hash);
+            }
+
+            return;
+        }
+
+        if (update) {
+            this.write(file, bytes);
+            this.updateIndex(key, hash);
+            return;
+        }
+
+        if (null == expected) {
+            throw new AssertionFailedError(String.format(
+                    "Snapshot '%s' does not exist: %s, run with -D%s=true to record it", name, file, UPDATE_PROPERTY));
+        }
+
+        throw new AssertionFailedError(String.format(
+                "Snapshot '%s' differs: %s, run with -D%s=true to update it%n%s",
+                name, file, UPDATE_PROPERTY, firstDifference(expected, normalized)), expected, normalized);
+    }
+
+    /**
+     * Returns the number of indexed snapshots.
+     *
+     * @return The number of snapshots.
+     */
+    public synchronized int size() {
+        return this.index.size();
+    }
+
+    public Path directory() {
+        return this.directory;
+    }
+
+    // ----------------------------------------------------------------
+
+    private synchronized void updateIndex(String key, String hash) {
+        this.index.put(key, hash);
+
+        StringBuilder content = new StringBuilder(this.index.size() * 48);
+        for (Map.Entry<String, String> entry : this.index.entrySet()) {
+            content.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+
+        this.write(this.directory.resolve(INDEX), content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void write(Path file, byte[] bytes) {
+        try {
+            Files.createDirectories(this.directory);
+            // Replaced atomically, so a failed run never leaves a half-written snapshot.
+            Path temp = Files.createTempFile(this.directory, file.getFileName().toString(), ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write the snapshot: " + file, e);
+        }
+    }
+
+    private static Map<String, String> readIndex(Path file) {
+        Map<String, String> index = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return index;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while (null != (line = reader.readLine())) {
+                int separator = line.lastIndexOf('=');
+                if (separator > 0) {
+                    index.put(line.substring(0, separator), line.substring(separator + 1).trim());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the snapshot index: " + file, e);
+        }
+
+        return index;
+    }
+
+    private static String readBody(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the snapshot: " + file, e);
+        }
+    }
+
+    private static String firstDifference(String expected, String actual) {
+        String[] expectedLines = expected.split("\n", -1);
+        String[] actualLines = actual.split("\n", -1);
+
+        int line = 0;
+        while (line < expectedLines.length && line < actualLines.length && expectedLines[line].equals(actualLines[line])) {
+            line++;
+        }
+
+        return String.format(
+                "first difference at line %d:%n  expected: %s%n  actual:   %s",
+                line + 1,
+                line < expectedLines.length ? expectedLines[line] : "<end of snapshot>",
+                line < actualLines.length ? actualLines[line] : "<end of body>"
+        );
+    }
+
+    /**
+     * Percent-encodes the UTF-8 bytes of every character but the letters, the digits, {@code .}, {@code -} and {@code _},
+     * so two different names never share a key, e.g.: {@code a/b} becomes {@code a%2Fb} and {@code a b} becomes {@code a%20b}.
+     */
+    static String sanitize(String name) {
+        StringBuilder key = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); ) {
+            int c = name.codePointAt(i);
+            i += Character.charCount(c);
+            if (Character.isLetterOrDigit(c) || '.' == c || '-' == c || '_' == c) {
+                key.appendCodePoint(c);
+                continue;
+            }
+
+            for (byte b : new String(Character.toChars(c)).getBytes(StandardCharsets.UTF_8)) {
+                key.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+
+        return key.toString();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.snapshot;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+
+/**
+ * {@code XxHash64}
+ * <p>
+ * The 64-bit xxHash(XXH64) of a byte array, a fast non-cryptographic hash used to tell whether a snapshot changed
+ * without loading the golden body.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class XxHash64 {
+
+    private static final long PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long PRIME_3 = 0x165667B19E3779F9L;
+    private static final long PRIME_4 = 0x85EBCA77C2B2AE63L;
+    private static final long PRIME_5 = 0x27D4EB2F165667C5L;
+
+    private XxHash64() {
+        AssertionErrorThrower.throwz(XxHash64.class);
+    }
+
+    /**
+     * Hashes the given bytes with the seed {@code 0}.
+     *
+     * @param input The bytes.
+     * @return The hash.
+     */
+    public static long hash(byte[] input) {
+        return hash(input, 0L);
+    }
+
+    /**
+     * Hashes the given bytes.
+     *
+     * @param input The bytes.
+     * @param seed  The seed.
+     * @return The hash.
+     */
+    public static long hash(byte[] input, long seed) {
+        int length = input.length;
+        int offset = 0;
+        long hash;
+
+        if (length >= 32) {
+            long v1 = seed + PRIME_1 + PRIME_2;
+            long v2 = seed + PRIME_2;
+            long v3 = seed;
+            long v4 = seed - PRIME_1;
+
+            int limit = length - 32;
+            do {
+                v1 = round(v1, readLong(input, offset));
+                v2 = round(v2, readLong(input, offset + 8));
+                v3 = round(v3, readLong(input, offset + 16));
+                v4 = round(v4, readLong(input, offset + 24));
+                offset += 32;
+            } while (offset <= limit);
+
+            hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+            hash = mergeRound(hash, v1);
+            hash = mergeRound(hash, v2);
+            hash = mergeRound(hash, v3);
+            hash = mergeRound(hash, v4);
+        } else {
+            hash = seed + PRIME_5;
+        }
+
+        hash += length;
+
+        while (offset + 8 <= length) {
+            hash ^= round(0, readLong(input, offset));
+            hash = Long.rotateLeft(hash, 27) * PRIME_1 + PRIME_4;
+            offset += 8;
+        }
+
+        if (offset + 4 <= length) {
+            hash ^= (readInt(input, offset) & 0xFFFFFFFFL) * PRIME_1;
+            hash = Long.rotateLeft(hash, 23) * PRIME_2 + PRIME_3;
+            offset += 4;
+        }
+
+        while (offset < length) {
+            hash ^= (input[offset] & 0xFFL) * PRIME_5;
+            hash = Long.rotateLeft(hash, 11) * PRIME_1;
+            offset++;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= PRIME_3;
+        hash ^= hash >>> 32;
+
+        return hash;
+    }
+
+    /**
+     * Formats a hash as 16 lowercase hex digits.
+     *
+     * @param hash The hash.
+     * @return The hex string.
+     */
+    public static String toHex(long hash) {
+        String hex = Long.toHexString(hash);
+
+        return hex.length() == 16 ? hex : "0000000000000000".substring(hex.length()) + hex;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static long round(long accumulator, long input) {
+        accumulator += input * PRIME_2;
+        accumulator = Long.rotateLeft(accumulator, 31);
+
+        return accumulator * PRIME_1;
+    }
+
+    private static long mergeRound(long accumulator, long value) {
+        accumulator ^= round(0, value);
+
+        return accumulator * PRIME_1 + PRIME_4;
+    }
+
+    private static long readLong(byte[] input, int offset) {
+        return (input[offset] & 0xFFL)
+                | (input[offset + 1] & 0xFFL) << 8
+                | (input[offset + 2] & 0xFFL) << 16
+                | (input[offset + 3] & 0xFFL) << 24
+                | (input[offset + 4] & 0xFFL) << 32
+                | (input[offset + 5] & 0xFFL) << 40
+                | (input[offset + 6] & 0xFFL) << 48
+                | (input[offset + 7] & 0xFFL) << 56;
+    }
+
+    private static int readInt(byte[] input, int offset) {
+        return (input[offset] & 0xFF)
+                | (input[offset + 1] & 0xFF) << 8
+                | (input[offset + 2] & 0xFF) << 16
+                | (input[offset + 3] & 0xFF) << 24;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.stream;
+
+/**
+ * {@code ServerSentEvent}
+ * <p>
+ * An event of a {@code text/event-stream} response, see {@link ServerSentEventParser}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class ServerSentEvent {
+
+    /**
+     * The event type of the events without an {@code event:} field.
+     */
+    public static final String DEFAULT_EVENT = "message";
+
+    private final String id;
+    private final String event;
+    private final String data;
+    private final Long retry;
+
+    public ServerSentEvent(String id, String event, String data, Long retry) {
+        this.id = id;
+        this.event = null != event ? event : DEFAULT_EVENT;
+        this.data = data;
+        this.retry = retry;
+    }
+
+    /**
+     * Returns the last event id, it is inherited from the previous events if this one has no {@code id:} field.
+     *
+     * @return The last event id, may be null.
+     */
+    public String id() {
+        return this.id;
+    }
+
+    public String event() {
+        return this.event;
+    }
+
+    /**
+     * Returns the data, the {@code data:} lines of the event are joined with {@code \n}.
+     *
+     * @return The data.
+     */
+    public String data() {
+        return this.data;
+    }
+
+    /**
+     * Returns the reconnection time in milliseconds.
+     *
+     * @return The reconnection time, may be null.
+     */
+    public Long retry() {
+        return this.retry;
+    }
+
+    @Override
+    public String toString() {
+        return "ServerSentEvent{id=" + this.id + ", event=" + this.event + ", data=" + this.data + ", retry=" + this.retry + "}";
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * {@code ServerSentEventParser}
+ * <p>
+ * An incremental {@code text/event-stream} parser: bytes are fed as they are written, and every complete event is
+ * passed to the listener right away, so the stream is never buffered as a whole.
+ * <p>
+ * Follows the parsing rules of the HTML specification: {@code \n}, {@code \r\n} and {@code \r} line endings,
+ * comment lines starting with {@code :}, and the {@code data}, {@code event}, {@code id} and {@code retry} fields.
+ * An incomplete event at the end of the stream is discarded.
+ * <p>
+ * Not thread-safe.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class ServerSentEventParser {
+
+    private static final int INITIAL_LINE_CAPACITY = 256;
+
+    private final Consumer<ServerSentEvent> listener;
+
+    private byte[] line = new byte[INITIAL_LINE_CAPACITY];
+    private int lineLength;
+    private boolean lastWasCarriageReturn;
+    private boolean started;
+
+    private final StringBuilder data = new StringBuilder();
+    private boolean hasData;
+    private String event;
+    private String lastEventId;
+    private Long retry;
+
+    public ServerSentEventParser(Consumer<ServerSentEvent> listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Feeds the next bytes of the stream.
+     *
+     * @param bytes  The buffer.
+     * @param offset The offset of the bytes in the buffer.
+     * @param length The number of bytes.
+     */
+    public void feed(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            byte b = bytes[i];
+            if ('\n' == b && this.lastWasCarriageReturn) {
+                this.lastWasCarriageReturn = false;
+                continue;
+            }
+
+            this.lastWasCarriageReturn = '\r' == b;
+            if ('\n' == b || '\r' == b) {
+                this.onLine();
+                continue;
+            }
+
+            if (this.lineLength == this.line.length) {
+                this.line = Arrays.copyOf(this.line, this.line.length << 1);
+            }
+            this.line[this.lineLength++] = b;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private void onLine() {
+        int offset = 0;
+        if (!this.started) {
+            this.started = true;
+            offset = skipByteOrderMark(this.line, this.lineLength);
+        }
+
+        int length = this.lineLength - offset;
+        this.lineLength = 0;
+
+        if (0 == length) {
+            this.dispatch();
+            return;
+        }
+        if (':' == this.line[offset]) {
+            return;
+        }
+
+        String text = new String(this.line, offset, length, StandardCharsets.UTF_8);
+        int colon = text.indexOf(':');
+        String field = colon < 0 ? text : text.substring(0, colon);
+        String value = "";
+        if (colon >= 0) {
+            int begin = colon + 1;
+            if (begin < text.length() && ' ' == text.charAt(begin)) {
+                begin++;
+            }
+            value = text.substring(begin);
+        }
+
+        this.onField(field, value);
+    }
+
+    private void onField(String field, String value) {
+        switch (field) {
+            case "data":
+                this.data.append(value).append('\n');
+                this.hasData = true;
+                break;
+            case "event":
+                this.event = value;
+                break;
+            case "id":
+                if (value.indexOf('\0') < 0) {
+                    this.lastEventId = value;
+                }
+                break;
+            case "retry":
+                if (!value.isEmpty() && value.chars().allMatch(Character::isDigit)) {
+                    this.retry = Long.parseLong(value);
+                }
+                break;
+            default:
+                // Unknown fields are ignored.
+                break;
+        }
+    }
+
+    private void dispatch() {
+        if (!this.hasData) {
+            this.event = null;
+            return;
+        }
+
+        this.data.setLength(this.data.length() - 1);
+        ServerSentEvent sse = new ServerSentEvent(this.lastEventId, this.event, this.data.toString(), this.retry);
+
+        this.data.setLength(0);
+        this.hasData = false;
+        this.event = null;
+        this.retry = null;
+
+        this.listener.accept(sse);
+    }
+
+    private static int skipByteOrderMark(byte[] line, int length) {
+        if (length >= 3 && (byte) 0xEF == line[0] && (byte) 0xBB == line[1] && (byte) 0xBF == line[2]) {
+            return 3;
+        }
+
+        return 0;
+    }
+}
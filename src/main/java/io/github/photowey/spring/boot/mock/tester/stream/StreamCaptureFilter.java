@@ -0,0 +1,163 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.stream;
+
+import org.springframework.util.Assert;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+
+/**
+ * {@code StreamCaptureFilter}
+ * <p>
+ * Redirects the response body to the {@link StreamingResult} of the {@link StreamingResult#ATTRIBUTE} request
+ * attribute, so it is parsed as it is written and never buffered. The headers and the status still reach the response.
+ * <p>
+ * A stateless singleton, so the filter list keeps a stable identity for the {@code MockMvcCache}.
+ * It does nothing if the request has no {@link StreamingResult#ATTRIBUTE}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class StreamCaptureFilter implements Filter {
+
+    private static final StreamCaptureFilter INSTANCE = new StreamCaptureFilter();
+
+    private StreamCaptureFilter() {}
+
+    public static StreamCaptureFilter instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        Object attribute = request.getAttribute(StreamingResult.ATTRIBUTE);
+        if (!(attribute instanceof StreamingResult)
+                || DispatcherType.REQUEST != request.getDispatcherType()
+                || !(response instanceof HttpServletResponse)) {
+            // The async dispatches reuse the response captured by the initial dispatch.
+            chain.doFilter(request, response);
+            return;
+        }
+
+        chain.doFilter(request, new CapturingResponse((HttpServletResponse) response, (StreamingResult) attribute));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class CapturingResponse extends HttpServletResponseWrapper {
+
+        private final CapturingOutputStream outputStream;
+        private PrintWriter writer;
+
+        private CapturingResponse(HttpServletResponse response, StreamingResult result) {
+            super(response);
+            this.outputStream = new CapturingOutputStream(response, result);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return this.outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() {
+            if (null == this.writer) {
+                this.writer = new PrintWriter(new OutputStreamWriter(this.outputStream, Charset.forName(this.getCharacterEncoding())));
+            }
+
+            return this.writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (null != this.writer) {
+                this.writer.flush();
+            }
+            this.outputStream.flush();
+        }
+
+        @Override
+        public void resetBuffer() {
+            // Nothing is buffered.
+        }
+    }
+
+    private static final class CapturingOutputStream extends ServletOutputStream {
+
+        private final HttpServletResponse response;
+        private final StreamingResult result;
+        private final byte[] single = new byte[1];
+
+        private CapturingOutputStream(HttpServletResponse response, StreamingResult result) {
+            this.response = response;
+            this.result = result;
+        }
+
+        @Override
+        public void write(int b) {
+            this.single[0] = (byte) b;
+            this.write(this.single, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            this.result.write(buffer, offset, length, this.response.getContentType());
+        }
+
+        @Override
+        public void flush() throws IOException {
+            this.result.flush();
+            this.response.flushBuffer();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        /**
+         * Every write is parsed synchronously, so the stream is always ready and the listener is notified right away.
+         */
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            Assert.notNull(listener, "The write listener must not be null");
+            try {
+                listener.onWritePossible();
+            } catch (Throwable e) {
+                listener.onError(e);
+            }
+        }
+    }
+}
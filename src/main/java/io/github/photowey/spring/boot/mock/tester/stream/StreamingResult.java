@@ -0,0 +1,306 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.stream;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@code StreamingResult}
+ * <p>
+ * Captures a streaming response as it is written, instead of buffering it in the {@code MockHttpServletResponse}.
+ * <ul>
+ *     <li>{@code text/event-stream} responses are parsed incrementally into {@link ServerSentEvent}s.</li>
+ *     <li>Every response is split into chunks at the flushes, e.g.: a {@code StreamingResponseBody}.</li>
+ * </ul>
+ * The arrival times are measured from the creation of the result, right before the request is performed.
+ * The events are retained by default, a listener can consume them as they arrive instead, see
+ * {@link #of(Consumer, boolean)}.
+ * <p>
+ * Written by the thread of the handler, read by the test thread.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class StreamingResult {
+
+    /**
+     * The request attribute that enables the capture of the {@link StreamCaptureFilter}.
+     */
+    public static final String ATTRIBUTE = StreamingResult.class.getName();
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+
+    private final Consumer<ServerSentEvent> listener;
+    private final boolean retainEvents;
+    private final long startNanos = System.nanoTime();
+
+    private final List<ServerSentEvent> events = new ArrayList<>();
+    private ServerSentEventParser parser;
+    private boolean resolved;
+
+    private int count;
+    private long firstEventNanos = -1;
+    private long lastEventNanos = -1;
+
+    private int chunks;
+    private long bytes;
+    private long pendingBytes;
+    private long firstChunkNanos = -1;
+
+    private long endNanos = -1;
+
+    private StreamingResult(Consumer<ServerSentEvent> listener, boolean retainEvents) {
+        this.listener = listener;
+        this.retainEvents = retainEvents;
+    }
+
+    /**
+     * Creates a result that retains the events.
+     *
+     * @return The result.
+     */
+    public static StreamingResult of() {
+        return of((event) -> {}, true);
+    }
+
+    /**
+     * Creates a result.
+     *
+     * @param listener     The listener invoked with every event as it arrives, on the thread of the handler.
+     * @param retainEvents Whether the events are retained for {@link #events()}, disable it for long streams.
+     * @return The result.
+     */
+    public static StreamingResult of(Consumer<ServerSentEvent> listener, boolean retainEvents) {
+        return new StreamingResult(listener, retainEvents);
+    }
+
+    // ---------------------------------------------------------------- Capture
+
+    synchronized void write(byte[] buffer, int offset, int length, String contentType) {
+        if (!this.resolved) {
+            this.resolved = true;
+            if (isEventStream(contentType)) {
+                this.parser = new ServerSentEventParser(this::onEvent);
+            }
+        }
+
+        this.bytes += length;
+        this.pendingBytes += length;
+        if (null != this.parser) {
+            this.parser.feed(buffer, offset, length);
+        }
+    }
+
+    synchronized void flush() {
+        if (0 == this.pendingBytes) {
+            return;
+        }
+
+        this.pendingBytes = 0;
+        if (0 == this.chunks++) {
+            this.firstChunkNanos = System.nanoTime() - this.startNanos;
+        }
+    }
+
+    /**
+     * Captures a whole response body from a stream, e.g.: a real socket response. Every read is a chunk.
+     *
+     * @param input       The response body.
+     * @param contentType The content type of the response, may be null.
+     * @throws IOException If the stream cannot be read.
+     */
+    public void read(InputStream input, String contentType) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int n;
+        while ((n = input.read(buffer)) >= 0) {
+            if (n > 0) {
+                this.write(buffer, 0, n, contentType);
+                this.flush();
+            }
+        }
+    }
+
+    /**
+     * Completes the capture, invoked once the response is complete.
+     */
+    public synchronized void complete() {
+        if (this.endNanos >= 0) {
+            return;
+        }
+
+        this.flush();
+        this.endNanos = System.nanoTime() - this.startNanos;
+    }
+
+    private void onEvent(ServerSentEvent event) {
+        long nanos = System.nanoTime() - this.startNanos;
+        if (0 == this.count++) {
+            this.firstEventNanos = nanos;
+        }
+        this.lastEventNanos = nanos;
+
+        if (this.retainEvents) {
+            this.events.add(event);
+        }
+        this.listener.accept(event);
+    }
+
+    private static boolean isEventStream(String contentType) {
+        if (null == contentType) {
+            return false;
+        }
+
+        try {
+            return MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // ---------------------------------------------------------------- Views
+
+    /**
+     * Returns the retained events.
+     *
+     * @return The events in arrival order, empty if they are not retained.
+     */
+    public synchronized List<ServerSentEvent> events() {
+        return Collections.unmodifiableList(new ArrayList<>(this.events));
+    }
+
+    /**
+     * Returns the number of events, retained or not.
+     *
+     * @return The number of events.
+     */
+    public synchronized int count() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of chunks, a chunk is the content written between two flushes.
+     *
+     * @return The number of chunks.
+     */
+    public synchronized int chunks() {
+        return this.chunks;
+    }
+
+    public synchronized long bytes() {
+        return this.bytes;
+    }
+
+    /**
+     * Returns the time from the start of the request to the first event.
+     *
+     * @return The first-event latency, null if no event arrived.
+     */
+    public synchronized Duration firstEventLatency() {
+        return this.firstEventNanos < 0 ? null : Duration.ofNanos(this.firstEventNanos);
+    }
+
+    /**
+     * Returns the time from the start of the request to the first chunk.
+     *
+     * @return The first-chunk latency, null if no chunk was flushed.
+     */
+    public synchronized Duration firstChunkLatency() {
+        return this.firstChunkNanos < 0 ? null : Duration.ofNanos(this.firstChunkNanos);
+    }
+
+    /**
+     * Returns the time from the start of the request to the completion of the response.
+     *
+     * @return The elapsed time, null if the response is not complete.
+     */
+    public synchronized Duration elapsed() {
+        return this.endNanos < 0 ? null : Duration.ofNanos(this.endNanos);
+    }
+
+    /**
+     * Returns the event rate: the number of events per second from the start of the request to the last event.
+     *
+     * @return The event rate, 0 if no event arrived.
+     */
+    public synchronized double rate() {
+        if (this.lastEventNanos <= 0) {
+            return 0D;
+        }
+
+        return this.count * 1_000_000_000D / this.lastEventNanos;
+    }
+
+    // ---------------------------------------------------------------- Assertions
+
+    public StreamingResult expectCount(int expected) {
+        int actual = this.count();
+        if (actual != expected) {
+            throw new AssertionError(String.format("Expected %d events, but received %d", expected, actual));
+        }
+
+        return this;
+    }
+
+    public StreamingResult expectCountAtLeast(int min) {
+        int actual = this.count();
+        if (actual < min) {
+            throw new AssertionError(String.format("Expected at least %d events, but received %d", min, actual));
+        }
+
+        return this;
+    }
+
+    public StreamingResult expectFirstEventWithin(Duration max) {
+        Duration latency = this.firstEventLatency();
+        if (null == latency) {
+            throw new AssertionError("Expected the first event within " + max.toMillis() + "ms, but no event was received");
+        }
+        if (latency.compareTo(max) > 0) {
+            throw new AssertionError(String.format(
+                    "Expected the first event within %dms, but it arrived after %.3fms", max.toMillis(), latency.toNanos() / 1_000_000D));
+        }
+
+        return this;
+    }
+
+    public StreamingResult expectRateAtLeast(double eventsPerSecond) {
+        double actual = this.rate();
+        if (actual < eventsPerSecond) {
+            throw new AssertionError(String.format(
+                    "Expected at least %.1f events/s, but received %d events at %.1f events/s", eventsPerSecond, this.count(), actual));
+        }
+
+        return this;
+    }
+
+    public StreamingResult expectChunksAtLeast(int min) {
+        int actual = this.chunks();
+        if (actual < min) {
+            throw new AssertionError(String.format("Expected at least %d chunks, but received %d", min, actual));
+        }
+
+        return this;
+    }
+}
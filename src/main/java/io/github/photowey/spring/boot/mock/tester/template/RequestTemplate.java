@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.template;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.github.photowey.spring.infras.common.json.JSON;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * {@code RequestTemplate}
+ * <p>
+ * An immutable description of a request: the method, the route template, the content type, the headers,
+ * the query parameters and the pre-serialized body.
+ * <p>
+ * The payload is serialized once when the template is created, every {@link #toRequestBuilder(Object...)} call only
+ * expands the route and shares the body bytes. {@code withXxx} methods return a modified copy, e.g.:
+ * <pre>
+ * RequestTemplate template = RequestTemplate.of(HttpMethod.POST, "/api/v1/users/{id}")
+ *         .body(payload)
+ *         .header("X-Tenant", "tester");
+ *
+ * this.doRequest(template.withField("name", "photowey"), 1L);
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class RequestTemplate {
+
+    private final HttpMethod method;
+    private final String route;
+    private final MediaType contentType;
+    private final HttpHeaders headers;
+    private final MultiValueMap<String, String> params;
+    private final byte[] body;
+
+    /**
+     * The lazily parsed tree of {@link #body}, only used by {@link #withField(String, Object)}.
+     */
+    private volatile JsonNode tree;
+
+    private RequestTemplate(
+            HttpMethod method,
+            String route,
+            MediaType contentType,
+            HttpHeaders headers,
+            MultiValueMap<String, String> params,
+            byte[] body,
+            JsonNode tree) {
+        this.method = method;
+        this.route = route;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.params = params;
+        this.body = body;
+        this.tree = tree;
+    }
+
+    /**
+     * Creates a template without a body.
+     * <p>
+     * The content type defaults to {@code application/json}, and {@code application/x-www-form-urlencoded} for GET.
+     *
+     * @param method The HTTP method.
+     * @param route  The route template, e.g.: {@code /api/v1/users/{id}}
+     * @return A new template.
+     */
+    public static RequestTemplate of(HttpMethod method, String route) {
+        Assert.notNull(method, "The method must not be null");
+        Assert.hasText(route, "The route must not be empty");
+
+        MediaType contentType = HttpMethod.GET == method ? MediaType.APPLICATION_FORM_URLENCODED : MediaType.APPLICATION_JSON;
+
+        return new RequestTemplate(
+                method,
+                route,
+                contentType,
+                HttpHeaders.readOnlyHttpHeaders(new HttpHeaders()),
+                readOnly(new LinkedMultiValueMap<>()),
+                null,
+                null);
+    }
+
+    // ----------------------------------------------------------------
+
+    public HttpMethod method() {
+        return this.method;
+    }
+
+    public String route() {
+        return this.route;
+    }
+
+    public MediaType contentType() {
+        return this.contentType;
+    }
+
+    public HttpHeaders headers() {
+        return this.headers;
+    }
+
+    public MultiValueMap<String, String> params() {
+        return this.params;
+    }
+
+    /**
+     * Returns a copy of the pre-serialized body.
+     *
+     * @return The body bytes, or null if the template has no body.
+     */
+    public byte[] body() {
+        return null != this.body ? this.body.clone() : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Returns a copy with the given content type.
+     *
+     * @param contentType The content type.
+     * @return A new template.
+     */
+    public RequestTemplate contentType(MediaType contentType) {
+        return new RequestTemplate(this.method, this.route, contentType, this.headers, this.params, this.body, this.tree);
+    }
+
+    /**
+     * Returns a copy with the given header values appended.
+     *
+     * @param name   The header name.
+     * @param values The header values.
+     * @return A new template.
+     */
+    public RequestTemplate header(String name, String... values) {
+        HttpHeaders copy = new HttpHeaders();
+        copy.addAll(this.headers);
+        copy.addAll(name, Arrays.asList(values));
+
+        return new RequestTemplate(this.method, this.route, this.contentType, HttpHeaders.readOnlyHttpHeaders(copy), this.params, this.body, this.tree);
+    }
+
+    /**
+     * Returns a copy with the given query parameter values appended.
+     *
+     * @param name   The parameter name.
+     * @param values The parameter values.
+     * @return A new template.
+     */
+    public RequestTemplate param(String name, String... values) {
+        // Copies the value lists too, the ones of this template are read-only.
+        MultiValueMap<String, String> copy = new LinkedMultiValueMap<>(this.params.size() + 1);
+        this.params.forEach((key, existing) -> copy.put(key, new ArrayList<>(existing)));
+        copy.addAll(name, Arrays.asList(values));
+
+        return new RequestTemplate(this.method, this.route, this.contentType, this.headers, readOnly(copy), this.body, this.tree);
+    }
+
+    /**
+     * Returns a copy with the given payload serialized as the body.
+     *
+     * @param payload The payload.
+     * @param <T>     The type of the payload.
+     * @return A new template.
+     */
+    public <T> RequestTemplate body(T payload) {
+        byte[] bytes = null != payload ? JSON.Jackson.toBytes(payload) : null;
+
+        return new RequestTemplate(this.method, this.route, this.contentType, this.headers, this.params, bytes, null);
+    }
+
+    /**
+     * Returns a copy with the given raw body.
+     *
+     * @param body The raw body.
+     * @return A new template.
+     */
+    public RequestTemplate body(byte[] body) {
+        byte[] bytes = null != body ? body.clone() : null;
+
+        return new RequestTemplate(this.method, this.route, this.contentType, this.headers, this.params, bytes, null);
+    }
+
+    /**
+     * Returns a copy with one field of the JSON body replaced.
+     * <p>
+     * The body is parsed once per template, every call only copies the tree and re-serializes it.
+     *
+     * @param path  The dotted field path, e.g.: {@code address.city}, missing parent objects are created.
+     * @param value The new value, converted with the shared {@link ObjectMapper}.
+     * @return A new template.
+     */
+    public RequestTemplate withField(String path, Object value) {
+        Assert.hasText(path, "The field path must not be empty");
+        Assert.state(null != this.body, "The template has no body");
+
+        ObjectMapper mapper = Jackson.getObjectMapper();
+        JsonNode root = this.tree().deepCopy();
+        Assert.state(root instanceof ObjectNode, "The body of the template is not a JSON object");
+
+        String[] names = StringUtils.delimitedListToStringArray(path, ".");
+        ObjectNode parent = (ObjectNode) root;
+        for (int i = 0; i < names.length - 1; i++) {
+            JsonNode child = parent.get(names[i]);
+            parent = child instanceof ObjectNode ? (ObjectNode) child : parent.putObject(names[i]);
+        }
+        parent.set(names[names.length - 1], mapper.valueToTree(value));
+
+        try {
+            return new RequestTemplate(this.method, this.route, this.contentType, this.headers, this.params, mapper.writeValueAsBytes(root), root);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize the body of the template", e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Creates a new request builder from this template.
+     *
+     * @param uriVars The variables to expand the route template with.
+     * @return A new request builder.
+     */
+    public MockHttpServletRequestBuilder toRequestBuilder(Object... uriVars) {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.request(this.method, this.route, uriVars)
+                .contentType(this.contentType);
+
+        if (!this.headers.isEmpty()) {
+            builder.headers(this.headers);
+        }
+        if (!this.params.isEmpty()) {
+            builder.queryParams(this.params);
+        }
+        if (null != this.body) {
+            builder.content(this.body);
+        }
+
+        return builder;
+    }
+
+    // ----------------------------------------------------------------
+
+    private JsonNode tree() {
+        JsonNode node = this.tree;
+        if (null == node) {
+            try {
+                node = Jackson.getObjectMapper().readTree(this.body);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to parse the body of the template", e);
+            }
+            this.tree = node;
+        }
+
+        return node;
+    }
+
+    private static MultiValueMap<String, String> readOnly(MultiValueMap<String, String> params) {
+        return CollectionUtils.unmodifiableMultiValueMap(params);
+    }
+}
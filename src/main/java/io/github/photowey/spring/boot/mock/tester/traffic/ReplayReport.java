@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code ReplayReport}
+ * <p>
+ * The aggregated result of a replay: every recorded call is re-issued, and the responses that differ from the
+ * recorded ones are collected instead of aborting the replay on the first one.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class ReplayReport {
+
+    /**
+     * The maximum number of differences listed in the message of {@link #assertNoDifferences()}.
+     */
+    private static final int MAX_LISTED_DIFFERENCES = 50;
+
+    private final long total;
+    private final List<Difference> differences;
+    private final Duration elapsed;
+
+    public ReplayReport(long total, List<Difference> differences, Duration elapsed) {
+        this.total = total;
+        this.differences = Collections.unmodifiableList(differences);
+        this.elapsed = elapsed;
+    }
+
+    public long total() {
+        return this.total;
+    }
+
+    public long matched() {
+        return this.total - this.differences.size();
+    }
+
+    public List<Difference> differences() {
+        return this.differences;
+    }
+
+    public Duration elapsed() {
+        return this.elapsed;
+    }
+
+    /**
+     * Returns the replayed calls per second.
+     *
+     * @return The throughput.
+     */
+    public double throughput() {
+        long nanos = this.elapsed.toNanos();
+
+        return 0 == nanos ? 0D : this.total * 1_000_000_000D / nanos;
+    }
+
+    public boolean allMatched() {
+        return this.differences.isEmpty();
+    }
+
+    /**
+     * Fails with one {@link AssertionError} listing the differing calls.
+     */
+    public void assertNoDifferences() {
+        if (this.allMatched()) {
+            return;
+        }
+
+        StringBuilder message = new StringBuilder(128)
+                .append(this.differences.size())
+                .append(" of ")
+                .append(this.total)
+                .append(" replayed calls differ:");
+
+        int listed = Math.min(this.differences.size(), MAX_LISTED_DIFFERENCES);
+        for (int i = 0; i < listed; i++) {
+            message.append(System.lineSeparator()).append("  ").append(this.differences.get(i));
+        }
+        if (this.differences.size() > listed) {
+            message.append(System.lineSeparator()).append("  ... ").append(this.differences.size() - listed).append(" more");
+        }
+
+        AssertionError error = new AssertionError(message.toString());
+        for (Difference difference : this.differences) {
+            if (null != difference.cause()) {
+                error.addSuppressed(difference.cause());
+            }
+        }
+
+        throw error;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "ReplayReport{total=%d, matched=%d, differences=%d, elapsed=%dms, throughput=%.1f/s}",
+                this.total,
+                this.matched(),
+                this.differences.size(),
+                this.elapsed.toMillis(),
+                this.throughput()
+        );
+    }
+
+    /**
+     * A replayed call whose response differs from the recorded one.
+     */
+    public static class Difference {
+
+        private final long index;
+        private final TrafficRecord record;
+        private final String reason;
+        private final Throwable cause;
+
+        public Difference(long index, TrafficRecord record, String reason, Throwable cause) {
+            this.index = index;
+            this.record = record;
+            this.reason = reason;
+            this.cause = cause;
+        }
+
+        /**
+         * Returns the index of the call in the log.
+         *
+         * @return The index.
+         */
+        public long index() {
+            return this.index;
+        }
+
+        public TrafficRecord record() {
+            return this.record;
+        }
+
+        /**
+         * Returns the first difference, e.g.: {@code body at /data/name: expected "a", actual "b"}
+         *
+         * @return The reason.
+         */
+        public String reason() {
+            return this.reason;
+        }
+
+        /**
+         * Returns the failure of the replayed call.
+         *
+         * @return The failure, null if the call was replayed.
+         */
+        public Throwable cause() {
+            return this.cause;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[%d] %s %s: %s", this.index, this.record.method(), this.record.route(), this.reason);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TrafficCodec}
+ * <p>
+ * The binary format of the traffic log:
+ * <pre>
+ * file   := magic(int "MTTR") version(short) record*
+ * record := length(int) payload(length bytes) crc32(int of the payload)
+ * payload := method route headers body status headers body
+ * string := length(int, -1 for null) utf-8 bytes
+ * headers := count(int) (name:string values:count(int) string*)*
+ * body   := length(int) bytes
+ * </pre>
+ * All integers are big-endian.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+final class TrafficCodec {
+
+    static final int MAGIC = 0x4D545452;
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 6;
+
+    private TrafficCodec() {
+        AssertionErrorThrower.throwz(TrafficCodec.class);
+    }
+
+    static byte[] encode(TrafficRecord record) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256 + record.requestBody().length + record.responseBody().length);
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            writeString(output, record.method());
+            writeString(output, record.route());
+            writeHeaders(output, record.requestHeaders());
+            writeBytes(output, record.requestBody());
+            output.writeInt(record.status());
+            writeHeaders(output, record.responseHeaders());
+            writeBytes(output, record.responseBody());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static TrafficRecord decode(ByteBuffer payload) {
+        String method = readString(payload);
+        String route = readString(payload);
+        MultiValueMap<String, String> requestHeaders = readHeaders(payload);
+        byte[] requestBody = readBytes(payload);
+        int status = payload.getInt();
+        MultiValueMap<String, String> responseHeaders = readHeaders(payload);
+        byte[] responseBody = readBytes(payload);
+
+        return new TrafficRecord(method, route, requestHeaders, requestBody, status, responseHeaders, responseBody);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        if (null == value) {
+            output.writeInt(-1);
+            return;
+        }
+
+        writeBytes(output, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream output, byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    private static void writeHeaders(DataOutputStream output, MultiValueMap<String, String> headers) throws IOException {
+        output.writeInt(headers.size());
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            writeString(output, header.getKey());
+            output.writeInt(header.getValue().size());
+            for (String value : header.getValue()) {
+                writeString(output, value);
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer input) {
+        int length = input.getInt();
+        if (length < 0) {
+            return null;
+        }
+
+        byte[] value = new byte[length];
+        input.get(value);
+
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(ByteBuffer input) {
+        byte[] value = new byte[input.getInt()];
+        input.get(value);
+
+        return value;
+    }
+
+    private static MultiValueMap<String, String> readHeaders(ByteBuffer input) {
+        int count = input.getInt();
+        MultiValueMap<String, String> headers = new LinkedMultiValueMap<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = readString(input);
+            int size = input.getInt();
+            List<String> values = new ArrayList<>(size);
+            for (int n = 0; n < size; n++) {
+                values.add(readString(input));
+            }
+            headers.put(name, values);
+        }
+
+        return headers;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32;
+
+/**
+ * {@code TrafficLog}
+ * <p>
+ * Reads the {@link TrafficRecord}s of a log written by the {@link TrafficRecorder}, in the recorded order.
+ * <p>
+ * The log is memory-mapped by default, the records are decoded straight from the page cache without copying the file
+ * through a stream buffer. Logs larger than 2GB are read through a buffered stream instead.
+ * A torn record at the end of the log is skipped, a record that fails the checksum fails the read.
+ * <p>
+ * An iterator is not thread-safe.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class TrafficLog implements Iterable<TrafficRecord> {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final boolean mapped;
+
+    private TrafficLog(Path file, boolean mapped) {
+        this.file = file;
+        this.mapped = mapped;
+    }
+
+    /**
+     * Opens a log, memory-mapped if it fits.
+     *
+     * @param file The log file.
+     * @return The log.
+     */
+    public static TrafficLog open(Path file) {
+        return open(file, true);
+    }
+
+    /**
+     * Opens a log.
+     *
+     * @param file   The log file.
+     * @param mapped Whether the log is memory-mapped, it is streamed otherwise.
+     * @return The log.
+     */
+    public static TrafficLog open(Path file, boolean mapped) {
+        return new TrafficLog(file, mapped);
+    }
+
+    public Path file() {
+        return this.file;
+    }
+
+    /**
+     * Iterates the records, the returned iterator must be closed if it is not exhausted.
+     *
+     * @return The iterator.
+     */
+    @Override
+    public RecordIterator iterator() {
+        try {
+            long size = Files.size(this.file);
+            if (this.mapped && size <= Integer.MAX_VALUE) {
+                try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+                    return new MappedIterator(this.file, channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+                }
+            }
+
+            return new StreamIterator(this.file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the traffic log: " + this.file, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A closeable iterator of the records of a log.
+     */
+    public abstract static class RecordIterator implements Iterator<TrafficRecord>, Closeable {
+
+        final Path file;
+        private final CRC32 crc = new CRC32();
+        private final byte[] scratch = new byte[8 * 1024];
+        private TrafficRecord next;
+        private long offset = TrafficCodec.HEADER_SIZE;
+
+        RecordIterator(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (null == this.next) {
+                this.next = this.read();
+            }
+
+            return null != this.next;
+        }
+
+        @Override
+        public TrafficRecord next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            TrafficRecord record = this.next;
+            this.next = null;
+
+            return record;
+        }
+
+        @Override
+        public void close() {}
+
+        abstract TrafficRecord read();
+
+        TrafficRecord decode(ByteBuffer payload, byte[] array, int length, int checksum) {
+            this.crc.reset();
+            if (null != array) {
+                this.crc.update(array, 0, length);
+            } else {
+                // Java 8: CRC32 has no ByteBuffer overload.
+                ByteBuffer view = payload.duplicate();
+                while (view.hasRemaining()) {
+                    int n = Math.min(this.scratch.length, view.remaining());
+                    view.get(this.scratch, 0, n);
+                    this.crc.update(this.scratch, 0, n);
+                }
+            }
+            if ((int) this.crc.getValue() != checksum) {
+                throw new IllegalStateException("Corrupted traffic record at offset " + this.offset + " of " + this.file);
+            }
+
+            this.offset += 8 + length;
+
+            return TrafficCodec.decode(payload);
+        }
+
+        static void checkHeader(Path file, int magic, short version) {
+            if (TrafficCodec.MAGIC != magic || TrafficCodec.VERSION != version) {
+                throw new IllegalStateException("Not a traffic log of version " + TrafficCodec.VERSION + ": " + file);
+            }
+        }
+    }
+
+    private static final class MappedIterator extends RecordIterator {
+
+        private final MappedByteBuffer buffer;
+
+        private MappedIterator(Path file, MappedByteBuffer buffer) {
+            super(file);
+            this.buffer = buffer;
+            if (buffer.remaining() < TrafficCodec.HEADER_SIZE) {
+                throw new IllegalStateException("Not a traffic log: " + file);
+            }
+
+            checkHeader(file, buffer.getInt(), buffer.getShort());
+        }
+
+        @Override
+        TrafficRecord read() {
+            if (this.buffer.remaining() < 4) {
+                return null;
+            }
+
+            int length = this.buffer.getInt();
+            if (length < 0 || this.buffer.remaining() < (long) length + 4) {
+                // Torn by a crash.
+                ((Buffer) this.buffer).position(this.buffer.limit());
+                return null;
+            }
+
+            // Through Buffer, the covariant overrides of Java 9+ do not exist on Java 8.
+            ByteBuffer payload = this.buffer.slice();
+            ((Buffer) payload).limit(length);
+            ((Buffer) this.buffer).position(this.buffer.position() + length);
+
+            return this.decode(payload, null, length, this.buffer.getInt());
+        }
+    }
+
+    private static final class StreamIterator extends RecordIterator {
+
+        private final DataInputStream input;
+        private byte[] payload = new byte[BUFFER_SIZE];
+
+        private StreamIterator(Path file) throws IOException {
+            super(file);
+            this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+            try {
+                checkHeader(file, this.input.readInt(), this.input.readShort());
+            } catch (EOFException e) {
+                this.input.close();
+                throw new IllegalStateException("Not a traffic log: " + file, e);
+            }
+        }
+
+        @Override
+        TrafficRecord read() {
+            try {
+                int length;
+                int checksum;
+                try {
+                    length = this.input.readInt();
+                    if (length < 0) {
+                        this.close();
+                        return null;
+                    }
+                    if (this.payload.length < length) {
+                        this.payload = new byte[length];
+                    }
+                    this.input.readFully(this.payload, 0, length);
+                    checksum = this.input.readInt();
+                } catch (EOFException e) {
+                    // The end of the log, or a record torn by a crash.
+                    this.close();
+                    return null;
+                }
+
+                return this.decode(ByteBuffer.wrap(this.payload, 0, length), this.payload, length, checksum);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read the traffic log: " + this.file, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                this.input.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close the traffic log: " + this.file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code TrafficRecord}
+ * <p>
+ * A recorded call: the request(method, route, headers, body) and the response(status, headers, body).
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class TrafficRecord {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final String method;
+    private final String route;
+    private final MultiValueMap<String, String> requestHeaders;
+    private final byte[] requestBody;
+    private final int status;
+    private final MultiValueMap<String, String> responseHeaders;
+    private final byte[] responseBody;
+
+    public TrafficRecord(
+            String method,
+            String route,
+            MultiValueMap<String, String> requestHeaders,
+            byte[] requestBody,
+            int status,
+            MultiValueMap<String, String> responseHeaders,
+            byte[] responseBody) {
+
+        this.method = method;
+        this.route = route;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = null != requestBody ? requestBody : EMPTY;
+        this.status = status;
+        this.responseHeaders = responseHeaders;
+        this.responseBody = null != responseBody ? responseBody : EMPTY;
+    }
+
+    /**
+     * Captures the request and the response of an executed call.
+     * <p>
+     * The route is the request URI with the query string. The parameters of a request without a query string and
+     * without content are encoded as the query string, so the call can be replayed as it was sent.
+     *
+     * @param result The result of the call.
+     * @return The record.
+     */
+    public static TrafficRecord of(MvcResult result) {
+        MockHttpServletRequest request = result.getRequest();
+        MockHttpServletResponse response = result.getResponse();
+
+        MultiValueMap<String, String> requestHeaders = new LinkedMultiValueMap<>();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            requestHeaders.put(name, Collections.list(request.getHeaders(name)));
+        }
+
+        MultiValueMap<String, String> responseHeaders = new LinkedMultiValueMap<>();
+        for (String name : response.getHeaderNames()) {
+            responseHeaders.put(name, response.getHeaders(name));
+        }
+
+        return new TrafficRecord(
+                request.getMethod(),
+                routeOf(request),
+                requestHeaders,
+                request.getContentAsByteArray(),
+                response.getStatus(),
+                responseHeaders,
+                response.getContentAsByteArray()
+        );
+    }
+
+    /**
+     * Creates a request builder that re-issues the recorded request.
+     *
+     * @return The request builder.
+     */
+    public MockHttpServletRequestBuilder toRequestBuilder() {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.request(HttpMethod.valueOf(this.method), URI.create(this.route));
+        for (Map.Entry<String, List<String>> header : this.requestHeaders.entrySet()) {
+            builder.header(header.getKey(), header.getValue().toArray());
+        }
+        if (this.requestBody.length > 0) {
+            builder.content(this.requestBody);
+        }
+
+        return builder;
+    }
+
+    public String method() {
+        return this.method;
+    }
+
+    /**
+     * Returns the request URI with the query string.
+     *
+     * @return The route.
+     */
+    public String route() {
+        return this.route;
+    }
+
+    public MultiValueMap<String, String> requestHeaders() {
+        return this.requestHeaders;
+    }
+
+    public byte[] requestBody() {
+        return this.requestBody;
+    }
+
+    public int status() {
+        return this.status;
+    }
+
+    public MultiValueMap<String, String> responseHeaders() {
+        return this.responseHeaders;
+    }
+
+    public byte[] responseBody() {
+        return this.responseBody;
+    }
+
+    @Override
+    public String toString() {
+        return this.method + " " + this.route + " -> " + this.status;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String routeOf(MockHttpServletRequest request) {
+        String query = request.getQueryString();
+        if (null == query && request.getContentLength() <= 0 && !request.getParameterMap().isEmpty()) {
+            query = encode(request.getParameterMap());
+        }
+
+        return null != query && !query.isEmpty() ? request.getRequestURI() + "?" + query : request.getRequestURI();
+    }
+
+    private static String encode(Map<String, String[]> parameters) {
+        StringBuilder encoded = new StringBuilder();
+        try {
+            for (Map.Entry<String, String[]> entry : parameters.entrySet()) {
+                for (String value : entry.getValue()) {
+                    if (encoded.length() > 0) {
+                        encoded.append('&');
+                    }
+                    encoded.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8.name())).append('=');
+                    if (null != value) {
+                        encoded.append(URLEncoder.encode(value, StandardCharsets.UTF_8.name()));
+                    }
+                }
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return encoded.toString();
+    }
+}
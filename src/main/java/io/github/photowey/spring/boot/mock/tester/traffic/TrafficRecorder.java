@@ -0,0 +1,252 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * {@code TrafficRecorder}
+ * <p>
+ * Appends {@link TrafficRecord}s to a length-prefixed binary log, see {@link TrafficCodec} for the format.
+ * The log is append-only: an existing log is extended after its last complete record, so a record torn by a crash
+ * is cut off before the new records are appended. A torn record at the end is skipped by the {@link TrafficLog}.
+ * A log with a corrupted record fails to open, nothing is cut off.
+ * <p>
+ * One recorder is shared per file, so the tests of a suite can record into the same log concurrently.
+ * The records are buffered, they are flushed by {@link #flush()}, {@link #flushAll()} and at JVM shutdown.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class TrafficRecorder implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<Path, TrafficRecorder> RECORDERS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(TrafficRecorder::closeAll, "mock-tester-traffic-recorder"));
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final DataOutputStream output;
+    private final CRC32 crc = new CRC32();
+    private long records;
+
+    private TrafficRecorder(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.getParent();
+        if (null != parent) {
+            Files.createDirectories(parent);
+        }
+
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        long end = exists ? validLength(file) : 0;
+
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        // Cuts a record torn by a crash, so the new records do not follow its stale length prefix.
+        this.channel.truncate(end);
+        this.channel.position(end);
+        this.output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(this.channel), BUFFER_SIZE));
+        if (!exists) {
+            this.output.writeInt(TrafficCodec.MAGIC);
+            this.output.writeShort(TrafficCodec.VERSION);
+        }
+    }
+
+    /**
+     * Returns the recorder of the given file, opening it on the first call.
+     *
+     * @param file The log file, created with its parent directories if absent.
+     * @return The shared recorder of the file.
+     */
+    public static TrafficRecorder of(Path file) {
+        return RECORDERS.computeIfAbsent(file.toAbsolutePath().normalize(), (key) -> {
+            try {
+                return new TrafficRecorder(key);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open the traffic log: " + key, e);
+            }
+        });
+    }
+
+    /**
+     * Flushes the buffered records of every open recorder, e.g.: before the logs are read.
+     */
+    public static void flushAll() {
+        for (TrafficRecorder recorder : RECORDERS.values()) {
+            recorder.flush();
+        }
+    }
+
+    /**
+     * Closes every open recorder.
+     */
+    public static void closeAll() {
+        for (TrafficRecorder recorder : RECORDERS.values()) {
+            recorder.close();
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Records the request and the response of an executed call.
+     *
+     * @param result The result of the call.
+     */
+    public void record(MvcResult result) {
+        this.append(TrafficRecord.of(result));
+    }
+
+    /**
+     * Appends a record.
+     *
+     * @param record The record.
+     */
+    public void append(TrafficRecord record) {
+        byte[] payload = TrafficCodec.encode(record);
+
+        synchronized (this) {
+            this.crc.reset();
+            this.crc.update(payload, 0, payload.length);
+            try {
+                this.output.writeInt(payload.length);
+                this.output.write(payload);
+                this.output.writeInt((int) this.crc.getValue());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to append to the traffic log: " + this.file, e);
+            }
+            this.records++;
+        }
+    }
+
+    public synchronized void flush() {
+        if (!this.channel.isOpen()) {
+            return;
+        }
+
+        try {
+            this.output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to flush the traffic log: " + this.file, e);
+        }
+    }
+
+    /**
+     * Returns the number of records appended by this recorder.
+     *
+     * @return The number of records.
+     */
+    public synchronized long records() {
+        return this.records;
+    }
+
+    public Path file() {
+        return this.file;
+    }
+
+    @Override
+    public synchronized void close() {
+        RECORDERS.remove(this.file, this);
+        if (!this.channel.isOpen()) {
+            return;
+        }
+
+        try {
+            this.output.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close the traffic log: " + this.file, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Scans an existing log up to the end of its last complete record.
+     * <p>
+     * Only a record torn by a crash at the end of the log is cut off, i.e.: a record shorter than its length prefix.
+     * A record that fails the checksum fails the open, as it does for the {@link TrafficLog}, instead of losing the
+     * valid records after it.
+     */
+    private static long validLength(Path file) throws IOException {
+        long size = Files.size(file);
+        if (size < TrafficCodec.HEADER_SIZE) {
+            throw new IOException("Not a traffic log: " + file);
+        }
+
+        try (InputStream input = Files.newInputStream(file);
+             DataInputStream data = new DataInputStream(new BufferedInputStream(input, BUFFER_SIZE))) {
+            if (TrafficCodec.MAGIC != data.readInt() || TrafficCodec.VERSION != data.readShort()) {
+                throw new IOException("Not a traffic log of version " + TrafficCodec.VERSION + ": " + file);
+            }
+
+            CRC32 crc = new CRC32();
+            byte[] payload = new byte[BUFFER_SIZE];
+            long valid = TrafficCodec.HEADER_SIZE;
+            while (valid < size) {
+                if (size - valid < 4) {
+                    // Torn in the length prefix.
+                    return valid;
+                }
+
+                int length = data.readInt();
+                if (length < 0) {
+                    throw new IOException("Corrupted traffic record at offset " + valid + " of " + file);
+                }
+                if (length > size - valid - 8) {
+                    // Torn in the payload or the checksum.
+                    return valid;
+                }
+
+                if (payload.length < length) {
+                    payload = new byte[length];
+                }
+                data.readFully(payload, 0, length);
+                int checksum = data.readInt();
+
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    throw new IOException("Corrupted traffic record at offset " + valid + " of " + file);
+                }
+
+                valid += 8 + length;
+            }
+
+            return valid;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import io.github.photowey.spring.infras.common.json.jackson.Jackson;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.Assert;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * {@code TrafficReplayer}
+ * <p>
+ * Re-issues the recorded calls of a {@link TrafficLog} at full speed and compares the status and the body of every
+ * response with the recorded one. JSON bodies are compared as trees, so the formatting and the field order do not
+ * matter, the other bodies byte by byte. The headers are not compared.
+ * <p>
+ * The log is read once, the workers pull the records from a shared iterator, so the memory stays flat for
+ * large logs.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class TrafficReplayer {
+
+    private TrafficReplayer() {
+        AssertionErrorThrower.throwz(TrafficReplayer.class);
+    }
+
+    /**
+     * Replays a log.
+     *
+     * @param log         The log.
+     * @param performer   Performs a request and returns its response, e.g.: through {@code MockMvc}.
+     * @param parallelism The number of workers.
+     * @param wrapper     Wraps the task of every worker, e.g.: to propagate the {@code SecurityContext}.
+     *                    It is applied once per worker.
+     * @return The report.
+     * @throws Exception If the replay is interrupted or the log cannot be read.
+     */
+    public static ReplayReport replay(
+            TrafficLog log,
+            Performer performer,
+            int parallelism,
+            Function<Callable<Void>, Callable<Void>> wrapper) throws Exception {
+
+        Assert.isTrue(parallelism > 0, "The parallelism must be greater than 0");
+
+        List<ReplayReport.Difference> differences = Collections.synchronizedList(new ArrayList<>());
+        long begin = System.nanoTime();
+        long total;
+
+        try (TrafficLog.RecordIterator records = log.iterator()) {
+            Source source = new Source(records);
+            Callable<Void> worker = () -> {
+                Indexed next;
+                while (null != (next = source.next())) {
+                    ReplayReport.Difference difference = compare(next.index, next.record, performer);
+                    if (null != difference) {
+                        differences.add(difference);
+                    }
+                }
+
+                return null;
+            };
+
+            if (1 == parallelism) {
+                wrapper.apply(worker).call();
+            } else {
+                ExecutorService executor = Executors.newFixedThreadPool(parallelism, (runnable) -> {
+                    Thread thread = new Thread(runnable, "mock-tester-replay");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+                try {
+                    List<Future<Void>> futures = new ArrayList<>(parallelism);
+                    for (int i = 0; i < parallelism; i++) {
+                        // Wrapped per worker, a wrapped task may not be reentrant.
+                        futures.add(executor.submit(wrapper.apply(worker)));
+                    }
+                    for (Future<Void> future : futures) {
+                        future.get();
+                    }
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+
+            total = source.count;
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+
+        List<ReplayReport.Difference> sorted = new ArrayList<>(differences);
+        sorted.sort((left, right) -> Long.compare(left.index(), right.index()));
+
+        return new ReplayReport(total, sorted, elapsed);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static ReplayReport.Difference compare(long index, TrafficRecord record, Performer performer) {
+        MockHttpServletResponse response;
+        try {
+            response = performer.perform(record.toRequestBuilder());
+        } catch (Throwable e) {
+            return new ReplayReport.Difference(index, record, "failed: " + e, e);
+        }
+
+        if (record.status() != response.getStatus()) {
+            return new ReplayReport.Difference(index, record,
+                    "status: expected " + record.status() + ", actual " + response.getStatus(), null);
+        }
+
+        String reason = diffBody(record.responseBody(), response.getContentAsByteArray());
+
+        return null == reason ? null : new ReplayReport.Difference(index, record, reason, null);
+    }
+
+    private static String diffBody(byte[] expected, byte[] actual) {
+        if (Arrays.equals(expected, actual)) {
+            return null;
+        }
+
+        JsonNode expectedTree = readTree(expected);
+        JsonNode actualTree = readTree(actual);
+        if (null != expectedTree && null != actualTree) {
+            return diffTree("", expectedTree, actualTree);
+        }
+
+        int length = Math.min(expected.length, actual.length);
+        int offset = 0;
+        while (offset < length && expected[offset] == actual[offset]) {
+            offset++;
+        }
+
+        return "body differs at byte " + offset + ": expected " + expected.length + " bytes, actual " + actual.length + " bytes";
+    }
+
+    private static String diffTree(String path, JsonNode expected, JsonNode actual) {
+        if (expected.equals(actual)) {
+            return null;
+        }
+
+        if (expected.isObject() && actual.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String child = path + "/" + field.getKey();
+                if (!actual.has(field.getKey())) {
+                    return "body at " + child + ": expected " + field.getValue() + ", actual missing";
+                }
+
+                String reason = diffTree(child, field.getValue(), actual.get(field.getKey()));
+                if (null != reason) {
+                    return reason;
+                }
+            }
+
+            Iterator<String> names = actual.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (!expected.has(name)) {
+                    return "body at " + path + "/" + name + ": unexpected " + actual.get(name);
+                }
+            }
+        }
+
+        if (expected.isArray() && actual.isArray() && expected.size() == actual.size()) {
+            for (int i = 0; i < expected.size(); i++) {
+                String reason = diffTree(path + "/" + i, expected.get(i), actual.get(i));
+                if (null != reason) {
+                    return reason;
+                }
+            }
+        }
+
+        return "body at " + (path.isEmpty() ? "/" : path) + ": expected " + expected + ", actual " + actual;
+    }
+
+    private static JsonNode readTree(byte[] body) {
+        if (0 == body.length) {
+            return null;
+        }
+
+        // A cheap check first, most non-JSON bodies are rejected without parsing.
+        byte first = body[0];
+        if ('{' != first && '[' != first) {
+            return null;
+        }
+
+        ObjectMapper mapper = Jackson.getObjectMapper();
+        try {
+            return mapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Performs a replayed request.
+     */
+    @FunctionalInterface
+    public interface Performer {
+
+        /**
+         * Performs the request.
+         *
+         * @param requestBuilder The request builder of the recorded request.
+         * @return The response.
+         * @throws Exception If the request fails.
+         */
+        MockHttpServletResponse perform(MockHttpServletRequestBuilder requestBuilder) throws Exception;
+    }
+
+    private static final class Source {
+
+        private final Iterator<TrafficRecord> records;
+        private long count;
+
+        private Source(Iterator<TrafficRecord> records) {
+            this.records = records;
+        }
+
+        private synchronized Indexed next() {
+            if (!this.records.hasNext()) {
+                return null;
+            }
+
+            return new Indexed(this.count++, this.records.next());
+        }
+    }
+
+    private static final class Indexed {
+
+        private final long index;
+        private final TrafficRecord record;
+
+        private Indexed(long index, TrafficRecord record) {
+            this.index = index;
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.transport;
+
+import io.github.photowey.spring.boot.mock.tester.stream.StreamingResult;
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultHandler;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.SmartRequestBuilder;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.servlet.FlashMap;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.ServletContext;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code RealServerTransport}
+ * <p>
+ * Sends the requests built for {@code MockMvc} over loopback to an embedded server, e.g.:
+ * {@code @SpringBootTest(webEnvironment = RANDOM_PORT)}, through a shared pool of keep-alive connections.
+ * The response is copied into a {@link MockHttpServletResponse} and exposed as {@link ResultActions}, so the
+ * {@code MockMvc} result matchers and handlers work unchanged.
+ * <p>
+ * The request post-processors are applied to build the request, but only what they put on the wire(the headers,
+ * the parameters and the body) reaches the server, e.g.: a mocked {@code SecurityContext} does not.
+ * Redirects are not followed and cookies are not kept between requests, as with {@code MockMvc}.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class RealServerTransport {
+
+    private static final int MAX_CONNECTIONS = 256;
+
+    private static final Set<String> SKIPPED_HEADERS = new HashSet<>(Arrays.asList(
+            HttpHeaders.HOST.toLowerCase(),
+            HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.TRANSFER_ENCODING.toLowerCase(),
+            HttpHeaders.CONNECTION.toLowerCase()
+    ));
+
+    private RealServerTransport() {
+        AssertionErrorThrower.throwz(RealServerTransport.class);
+    }
+
+    /**
+     * Sends the request over the socket and waits for the response.
+     *
+     * @param baseUrl        The base URL of the server, e.g.: {@code http://localhost:8080/context-path}
+     * @param requestBuilder The request builder.
+     * @param servletContext The servlet context used to build the request.
+     * @param timeout        The maximum time to wait for the connection and for every read.
+     * @return The result actions of the response.
+     * @throws Exception If the request cannot be sent or the response cannot be read.
+     */
+    public static ResultActions perform(
+            String baseUrl,
+            RequestBuilder requestBuilder,
+            ServletContext servletContext,
+            Duration timeout) throws Exception {
+
+        MockHttpServletRequest request = requestBuilder.buildRequest(servletContext);
+        if (requestBuilder instanceof SmartRequestBuilder) {
+            request = ((SmartRequestBuilder) requestBuilder).postProcessRequest(request);
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try (CloseableHttpResponse received = Holder.CLIENT.execute(toHttpRequest(baseUrl, request, timeout))) {
+            response.setStatus(received.getStatusLine().getStatusCode());
+            for (Header header : received.getAllHeaders()) {
+                response.addHeader(header.getName(), header.getValue());
+            }
+
+            HttpEntity entity = received.getEntity();
+            if (null != entity) {
+                copyBody(request, response, entity);
+            }
+        }
+
+        response.setCommitted(true);
+
+        return new RealServerResultActions(new RealServerResult(request, response));
+    }
+
+    // ----------------------------------------------------------------
+
+    private static HttpUriRequest toHttpRequest(String baseUrl, MockHttpServletRequest request, Duration timeout) throws UnsupportedEncodingException {
+        byte[] content = request.getContentAsByteArray();
+        String parameters = encodeParameters(request.getParameterMap());
+        // The parameters of a form are sent as the body, e.g.: a POST without content, otherwise as the query string.
+        boolean form = ObjectUtils.isEmpty(content) && hasBody(request.getMethod()) && isForm(request.getContentType());
+
+        StringBuilder uri = new StringBuilder(baseUrl).append(request.getRequestURI());
+        if (!parameters.isEmpty() && !form) {
+            uri.append('?').append(parameters);
+        }
+
+        int millis = (int) Math.min(Integer.MAX_VALUE, timeout.toMillis());
+        org.apache.http.client.methods.RequestBuilder builder = org.apache.http.client.methods.RequestBuilder
+                .create(request.getMethod())
+                .setUri(uri.toString())
+                .setConfig(RequestConfig.custom()
+                        .setConnectTimeout(millis)
+                        .setConnectionRequestTimeout(millis)
+                        .setSocketTimeout(millis)
+                        .build());
+
+        Enumeration<String> names = request.getHeaderNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            if (SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+
+            for (String value : Collections.list(request.getHeaders(name))) {
+                builder.addHeader(name, value);
+            }
+        }
+
+        if (form && !parameters.isEmpty()) {
+            builder.setEntity(new ByteArrayEntity(parameters.getBytes(StandardCharsets.UTF_8)));
+        } else if (!ObjectUtils.isEmpty(content)) {
+            builder.setEntity(new ByteArrayEntity(content));
+        }
+
+        return builder.build();
+    }
+
+    private static void copyBody(MockHttpServletRequest request, MockHttpServletResponse response, HttpEntity entity) throws Exception {
+        Object attribute = request.getAttribute(StreamingResult.ATTRIBUTE);
+        if (attribute instanceof StreamingResult) {
+            // Streamed as it arrives, like the StreamCaptureFilter of the in-process dispatch.
+            try (InputStream input = entity.getContent()) {
+                ((StreamingResult) attribute).read(input, response.getContentType());
+            }
+
+            return;
+        }
+
+        response.getOutputStream().write(EntityUtils.toByteArray(entity));
+    }
+
+    private static String encodeParameters(Map<String, String[]> parameters) throws UnsupportedEncodingException {
+        StringBuilder encoded = new StringBuilder();
+        for (Map.Entry<String, String[]> entry : parameters.entrySet()) {
+            String name = URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8.name());
+            for (String value : entry.getValue()) {
+                if (encoded.length() > 0) {
+                    encoded.append('&');
+                }
+                encoded.append(name).append('=');
+                if (null != value) {
+                    encoded.append(URLEncoder.encode(value, StandardCharsets.UTF_8.name()));
+                }
+            }
+        }
+
+        return encoded.toString();
+    }
+
+    private static boolean hasBody(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method);
+    }
+
+    private static boolean isForm(String contentType) {
+        if (null == contentType) {
+            return false;
+        }
+
+        try {
+            return MediaType.APPLICATION_FORM_URLENCODED.includes(MediaType.parseMediaType(contentType));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static final class Holder {
+
+        private static final CloseableHttpClient CLIENT = createClient();
+
+        private static CloseableHttpClient createClient() {
+            PoolingHttpClientConnectionManager connections = new PoolingHttpClientConnectionManager();
+            connections.setMaxTotal(MAX_CONNECTIONS);
+            connections.setDefaultMaxPerRoute(MAX_CONNECTIONS);
+
+            return HttpClients.custom()
+                    .setConnectionManager(connections)
+                    .disableRedirectHandling()
+                    .disableCookieManagement()
+                    .disableAutomaticRetries()
+                    .build();
+        }
+    }
+
+    private static final class RealServerResultActions implements ResultActions {
+
+        private final MvcResult result;
+
+        private RealServerResultActions(MvcResult result) {
+            this.result = result;
+        }
+
+        @Override
+        public ResultActions andExpect(ResultMatcher matcher) throws Exception {
+            matcher.match(this.result);
+            return this;
+        }
+
+        @Override
+        public ResultActions andDo(ResultHandler handler) throws Exception {
+            handler.handle(this.result);
+            return this;
+        }
+
+        @Override
+        public MvcResult andReturn() {
+            return this.result;
+        }
+    }
+
+    private static final class RealServerResult implements MvcResult {
+
+        private final MockHttpServletRequest request;
+        private final MockHttpServletResponse response;
+        private final FlashMap flashMap = new FlashMap();
+
+        private RealServerResult(MockHttpServletRequest request, MockHttpServletResponse response) {
+            this.request = request;
+            this.response = response;
+        }
+
+        @Override
+        public MockHttpServletRequest getRequest() {
+            return this.request;
+        }
+
+        @Override
+        public MockHttpServletResponse getResponse() {
+            return this.response;
+        }
+
+        /**
+         * The handler runs in the server, it is unknown to the client.
+         */
+        @Override
+        public Object getHandler() {
+            return null;
+        }
+
+        @Override
+        public HandlerInterceptor[] getInterceptors() {
+            return null;
+        }
+
+        @Override
+        public ModelAndView getModelAndView() {
+            return null;
+        }
+
+        @Override
+        public Exception getResolvedException() {
+            return null;
+        }
+
+        @Override
+        public FlashMap getFlashMap() {
+            return this.flashMap;
+        }
+
+        @Override
+        public Object getAsyncResult() {
+            return null;
+        }
+
+        @Override
+        public Object getAsyncResult(long timeToWait) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code WarmupReport}
+ * <p>
+ * The report of a warm-up phase: the total time spent warming up, and per route the cold(first) request versus
+ * the steady state(the mean of the second half of the iterations).
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public class WarmupReport {
+
+    private final List<Route> routes;
+    private final Duration elapsed;
+
+    public WarmupReport(List<Route> routes, Duration elapsed) {
+        this.routes = Collections.unmodifiableList(routes);
+        this.elapsed = elapsed;
+    }
+
+    public List<Route> routes() {
+        return this.routes;
+    }
+
+    /**
+     * Returns the total time spent warming up.
+     *
+     * @return The elapsed time.
+     */
+    public Duration elapsed() {
+        return this.elapsed;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder buf = new StringBuilder(128)
+                .append("WarmupReport{elapsed=").append(this.elapsed.toMillis()).append("ms");
+        for (Route route : this.routes) {
+            buf.append(", ").append(route);
+        }
+
+        return buf.append('}').toString();
+    }
+
+    /**
+     * The warm-up of one route.
+     */
+    public static class Route {
+
+        private final String route;
+        private final int iterations;
+        private final Duration cold;
+        private final Duration steady;
+
+        public Route(String route, int iterations, Duration cold, Duration steady) {
+            this.route = route;
+            this.iterations = iterations;
+            this.cold = cold;
+            this.steady = steady;
+        }
+
+        public String route() {
+            return this.route;
+        }
+
+        public int iterations() {
+            return this.iterations;
+        }
+
+        /**
+         * Returns the time of the first request.
+         *
+         * @return The cold request time.
+         */
+        public Duration cold() {
+            return this.cold;
+        }
+
+        /**
+         * Returns the mean time of the second half of the iterations.
+         *
+         * @return The steady state request time.
+         */
+        public Duration steady() {
+            return this.steady;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%s{iterations=%d, cold=%.3fms, steady=%.3fms}",
+                    this.route,
+                    this.iterations,
+                    this.cold.toNanos() / 1_000_000D,
+                    this.steady.toNanos() / 1_000_000D
+            );
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.warmup;
+
+import io.github.photowey.spring.boot.mock.tester.thrower.AssertionErrorThrower;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * {@code Warmups}
+ * <p>
+ * Warms up the routes of an application context once: class loading, the Jackson serializers and the handler
+ * mappings are initialized before the timed assertions of the tests.
+ * <p>
+ * A route is warmed up at most once per application context, the report of the last warm-up is kept.
+ * A warm-up response that is not {@code 2xx}(e.g.: rejected by the security filter chain) fails the warm-up, as no
+ * handler was warmed up.
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+public final class Warmups {
+
+    private static final Log log = LogFactory.getLog(Warmups.class);
+
+    private static final Map<ApplicationContext, Set<String>> WARMED = new WeakHashMap<>();
+    private static final Map<ApplicationContext, WarmupReport> REPORTS = new WeakHashMap<>();
+
+    private Warmups() {
+        AssertionErrorThrower.throwz(Warmups.class);
+    }
+
+    /**
+     * Warms up the routes of the given context that are not warmed up yet, by executing a bare GET request
+     * {@code iterations} times per route.
+     *
+     * @param context    The application context.
+     * @param mockMvc    The {@link MockMvc} executing the requests.
+     * @param routes     The routes.
+     * @param iterations The number of requests per route.
+     * @return The report, or null if all routes are warmed up already.
+     * @throws Exception If a request fails.
+     * @see #warmup(ApplicationContext, MockMvc, List, int, Function)
+     */
+    public static WarmupReport warmup(
+            ApplicationContext context,
+            MockMvc mockMvc,
+            List<String> routes,
+            int iterations) throws Exception {
+
+        return warmup(context, mockMvc, routes, iterations, MockMvcRequestBuilders::get);
+    }
+
+    /**
+     * Warms up the routes of the given context that are not warmed up yet, by executing the request built for each
+     * route {@code iterations} times.
+     *
+     * @param context    The application context.
+     * @param mockMvc    The {@link MockMvc} executing the requests.
+     * @param routes     The routes.
+     * @param iterations The number of requests per route.
+     * @param requests   Builds the request of a route, e.g.: the way the timed requests are built.
+     * @return The report, or null if all routes are warmed up already.
+     * @throws Exception If a request fails.
+     * @throws IllegalStateException If a response is not {@code 2xx}.
+     */
+    public static synchronized WarmupReport warmup(
+            ApplicationContext context,
+            MockMvc mockMvc,
+            List<String> routes,
+            int iterations,
+            Function<String, MockHttpServletRequestBuilder> requests) throws Exception {
+
+        if (iterations <= 0 || routes.isEmpty()) {
+            return null;
+        }
+
+        Set<String> warmed = WARMED.computeIfAbsent(context, (key) -> new HashSet<>());
+        List<WarmupReport.Route> reports = new ArrayList<>(routes.size());
+
+        long begin = System.nanoTime();
+        for (String route : routes) {
+            if (warmed.contains(route)) {
+                continue;
+            }
+
+            reports.add(warmup(mockMvc, route, iterations, requests));
+            warmed.add(route);
+        }
+
+        if (reports.isEmpty()) {
+            return null;
+        }
+
+        WarmupReport report = new WarmupReport(reports, Duration.ofNanos(System.nanoTime() - begin));
+        REPORTS.put(context, report);
+        if (log.isInfoEnabled()) {
+            log.info(report.toString());
+        }
+
+        return report;
+    }
+
+    /**
+     * Returns the report of the last warm-up of the given context.
+     *
+     * @param context The application context.
+     * @return The report, or null if the context has not been warmed up.
+     */
+    public static synchronized WarmupReport report(ApplicationContext context) {
+        return REPORTS.get(context);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static WarmupReport.Route warmup(
+            MockMvc mockMvc,
+            String route,
+            int iterations,
+            Function<String, MockHttpServletRequestBuilder> requests) throws Exception {
+
+        long[] samples = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            MockHttpServletRequestBuilder request = requests.apply(route);
+            long begin = System.nanoTime();
+            int status = mockMvc.perform(request).andReturn().getResponse().getStatus();
+            samples[i] = System.nanoTime() - begin;
+
+            if (!HttpStatus.Series.SUCCESSFUL.equals(HttpStatus.Series.resolve(status))) {
+                throw new IllegalStateException("The warm-up request of " + route + " returned the status " + status);
+            }
+        }
+
+        int from = iterations / 2;
+        long steady = 0;
+        for (int i = from; i < iterations; i++) {
+            steady += samples[i];
+        }
+
+        return new WarmupReport.Route(
+                route,
+                iterations,
+                Duration.ofNanos(samples[0]),
+                Duration.ofNanos(steady / (iterations - from))
+        );
+    }
+}
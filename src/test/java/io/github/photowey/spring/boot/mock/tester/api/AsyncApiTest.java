@@ -0,0 +1,74 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import io.github.photowey.spring.boot.mock.tester.response.ResponseBody;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AsyncApiTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class AsyncApiTest extends LocalTest {
+
+    private static final String ASYNC_BASE_API = "/api/v1/async";
+
+    private static final TypeReference<ApiResult<GreetingDTO>> GREETING_TYPE = new TypeReference<ApiResult<GreetingDTO>>() {};
+
+    @Test
+    void testSync() throws Exception {
+        Assertions.assertEquals("Hello deferred.photowey",
+                this.doGetRequest(new HelloQuery("photowey"), ASYNC_BASE_API + "/deferred", GREETING_TYPE).getData().getGreeting());
+        Assertions.assertEquals("Hello callable.photowey",
+                this.doGetRequest(new HelloQuery("photowey"), ASYNC_BASE_API + "/callable", GREETING_TYPE).getData().getGreeting());
+        Assertions.assertEquals("Hello future.photowey",
+                this.doGetRequest(new HelloQuery("photowey"), ASYNC_BASE_API + "/future", GREETING_TYPE).getData().getGreeting());
+    }
+
+    @Test
+    void testInFlight() throws Exception {
+        List<CompletableFuture<ResponseBody>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futures.add(this.doAsyncRequest(HttpMethod.GET, new HelloQuery("photowey" + i), ASYNC_BASE_API + "/deferred"));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < futures.size(); i++) {
+            Assertions.assertEquals("Hello deferred.photowey" + i, futures.get(i).get().as(GREETING_TYPE).getData().getGreeting());
+        }
+
+        ResponseBody body = this.doAsyncRequest(HttpMethod.GET, new HelloQuery("photowey"), "/api/v1/get").get();
+        Assertions.assertEquals(200, body.status());
+    }
+}
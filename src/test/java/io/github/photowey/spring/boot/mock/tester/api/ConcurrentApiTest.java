@@ -0,0 +1,169 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.api;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.batch.BatchRequest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.security.MockUser;
+import io.github.photowey.spring.boot.mock.tester.security.MockUsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ConcurrentApiTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.CONCURRENT)
+class ConcurrentApiTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private final Set<String> resolvers = ConcurrentHashMap.newKeySet();
+
+    private final CyclicBarrier barrier = new CyclicBarrier(2);
+    private final Map<String, MockMvc> parallelMockMvcs = new ConcurrentHashMap<>();
+    private final Map<String, Thread> parallelThreads = new ConcurrentHashMap<>();
+
+    @Override
+    protected MockMvc currentMockMvc() {
+        this.resolvers.add(Thread.currentThread().getName());
+
+        return super.currentMockMvc();
+    }
+
+    @Override
+    protected boolean concurrentEnabled() {
+        return true;
+    }
+
+    @Override
+    protected void mockUser() {
+        Assertions.assertNull(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("tester", "tester"));
+    }
+
+    @Test
+    void testGet() throws Exception {
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+    }
+
+    @Test
+    void testThreadLocalMockMvc() throws Exception {
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MockMvc>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                Callable<MockMvc> task = () -> {
+                    this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+
+                    return this.currentMockMvc();
+                };
+                futures.add(executor.submit(task));
+            }
+
+            Set<MockMvc> mockMvcs = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<MockMvc> future : futures) {
+                mockMvcs.add(future.get());
+            }
+
+            Assertions.assertEquals(threads, mockMvcs.size());
+            Assertions.assertFalse(mockMvcs.contains(this.currentMockMvc()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testBatchMockMvcPerWorker() throws Exception {
+        List<BatchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(BatchRequest.of(HttpMethod.GET, METHODS_BASE_API + "/get", new HelloQuery("photowey" + i)));
+        }
+
+        this.batch(requests, 4).assertAllPassed();
+
+        Assertions.assertTrue(this.resolvers.contains("mock-tester-batch"), this.resolvers.toString());
+    }
+
+    @Test
+    void testParallelIsolationA() throws Exception {
+        this.assertIsolated("parallel-a", "parallel-b");
+    }
+
+    @Test
+    void testParallelIsolationB() throws Exception {
+        this.assertIsolated("parallel-b", "parallel-a");
+    }
+
+    /**
+     * Runs together with the test of the other user, on another JUnit worker thread.
+     */
+    private void assertIsolated(String user, String other) throws Exception {
+        MockUsers.register(MockUser.of(user).roles("ADMIN"));
+        try {
+            Authentication own = new UsernamePasswordAuthenticationToken(user, user);
+            SecurityContextHolder.getContext().setAuthentication(own);
+
+            // Times out unless both tests run in parallel.
+            this.barrier.await(30, TimeUnit.SECONDS);
+            Assertions.assertSame(own, SecurityContextHolder.getContext().getAuthentication());
+
+            String principal = this.doGetRequest(METHODS_BASE_API + "/principal", this.asUser(user), this::defaultPredicate);
+            this.parallelMockMvcs.put(user, this.currentMockMvc());
+            this.parallelThreads.put(user, Thread.currentThread());
+            this.barrier.await(30, TimeUnit.SECONDS);
+
+            Assertions.assertTrue(principal.contains("\"data\":\"" + user + "\""), principal);
+            Authentication current = SecurityContextHolder.getContext().getAuthentication();
+            Assertions.assertTrue(null == current || user.equals(current.getName()), String.valueOf(current));
+            Assertions.assertNotSame(this.parallelThreads.get(other), Thread.currentThread());
+            Assertions.assertNotSame(this.parallelMockMvcs.get(other), this.currentMockMvc());
+        } finally {
+            MockUsers.unregister(user);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * {@code ReactiveApiTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringJUnitConfig(ReactiveApiTest.ReactiveConfigure.class)
+class ReactiveApiTest extends AbstractReactiveAPITester {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private static final TypeReference<ApiResult<GreetingDTO>> GREETING_TYPE = new TypeReference<ApiResult<GreetingDTO>>() {};
+
+    @Override
+    protected String apiOk() {
+        return "200";
+    }
+
+    @Test
+    void testHealth() {
+        super.tryGetHealth();
+    }
+
+    @Test
+    void testGet() {
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get", (body) -> {
+            body.jsonPath("$.data.greeting").isEqualTo("Hello photowey");
+        });
+
+        ApiResult<GreetingDTO> result = this.doRequest(HttpMethod.GET, new HelloQuery("photowey"), METHODS_BASE_API + "/get", GREETING_TYPE);
+        Assertions.assertEquals("Hello photowey", result.getData().getGreeting());
+    }
+
+    @Test
+    void testPost() {
+        String content = this.doPostRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/post");
+        Assertions.assertTrue(content.contains("Hello photowey"));
+
+        this.doPutRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/post", (request) -> {
+            request.header("X-Tester", "photowey");
+        }, (body) -> {
+            body.jsonPath("$.data.greeting").isEqualTo("Hello photowey");
+        });
+    }
+
+    @Test
+    void testRequestB() {
+        String content = this.doGetRequestB(METHODS_BASE_API + "/header", (request) -> {
+            request.header("X-Tester", "photowey");
+        });
+        Assertions.assertTrue(content.contains("Hello photowey"));
+
+        ApiResult<GreetingDTO> result = this.doPostRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/post", GREETING_TYPE);
+        Assertions.assertEquals("Hello photowey", result.getData().getGreeting());
+    }
+
+    @Test
+    void testStream() {
+        Flux<GreetingDTO> stream = this.doStreamRequest(
+                HttpMethod.GET, null, METHODS_BASE_API + "/stream", MediaType.APPLICATION_NDJSON, GreetingDTO.class);
+
+        List<GreetingDTO> greetings = stream.take(3).collectList().block(Duration.ofSeconds(5));
+
+        Assertions.assertNotNull(greetings);
+        Assertions.assertEquals(3, greetings.size());
+        Assertions.assertEquals("Hello 2", greetings.get(2).getGreeting());
+    }
+
+    /**
+     * Not a {@code @Configuration}, so the component scan of the sample {@code App}(e.g.: the benchmarks) skips it.
+     */
+    @EnableWebFlux
+    static class ReactiveConfigure {
+
+        @Bean
+        public RouterFunction<ServerResponse> reactiveRoutes() {
+            return RouterFunctions.route()
+                    .GET(AbstractAPITester.HEALTH_API, (request) -> ServerResponse.ok().bodyValue(ApiResult.ok("UP")))
+                    .GET(METHODS_BASE_API + "/get", (request) -> {
+                        String name = request.queryParam("name").orElse("");
+                        return ServerResponse.ok().bodyValue(ApiResult.ok(new GreetingDTO("Hello " + name)));
+                    })
+                    .GET(METHODS_BASE_API + "/header", (request) -> {
+                        String name = request.headers().firstHeader("X-Tester");
+                        return ServerResponse.ok().bodyValue(ApiResult.ok(new GreetingDTO("Hello " + name)));
+                    })
+                    .route((request) -> request.path().equals(METHODS_BASE_API + "/post"), (request) -> request.bodyToMono(HelloQuery.class)
+                            .flatMap((query) -> ServerResponse.ok().bodyValue(ApiResult.ok(new GreetingDTO("Hello " + query.getName())))))
+                    .GET(METHODS_BASE_API + "/stream", (request) -> ServerResponse.ok()
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            // Unbounded: the client must consume it without waiting for the end of the body.
+                            .body(Flux.range(0, Integer.MAX_VALUE).delayElements(Duration.ofMillis(10)).map((i) -> new GreetingDTO("Hello " + i)), GreetingDTO.class))
+                    .build();
+        }
+    }
+}
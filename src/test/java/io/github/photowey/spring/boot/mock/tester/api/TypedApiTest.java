@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.cache.ObjectReaders;
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import io.github.photowey.spring.boot.mock.tester.matcher.JsonPaths;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@code TypedApiTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class TypedApiTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private static final TypeReference<ApiResult<GreetingDTO>> GREETING_TYPE = new TypeReference<ApiResult<GreetingDTO>>() {};
+
+    @Test
+    void testTyped() throws Exception {
+        ApiResult<GreetingDTO> get = this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get", GREETING_TYPE);
+        Assertions.assertEquals("Hello get.photowey", get.getData().getGreeting());
+
+        ApiResult<GreetingDTO> post = this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post", GREETING_TYPE);
+        Assertions.assertEquals("Hello post.photowey", post.getData().getGreeting());
+
+        ApiResult<GreetingDTO> put = this.doPutRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/put", GREETING_TYPE);
+        Assertions.assertEquals("Hello put.photowey", put.getData().getGreeting());
+
+        ApiResult<GreetingDTO> patch = this.doPatchRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/patch", GREETING_TYPE);
+        Assertions.assertEquals("Hello patch.photowey", patch.getData().getGreeting());
+
+        ApiResult<?> delete = this.doDeleteRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/delete", ApiResult.class);
+        Assertions.assertEquals(this.apiOk(), delete.getCode());
+    }
+
+    @Test
+    void testTypedParsedOnce() throws Exception {
+        ApiResult<GreetingDTO> result = this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get", this::emptyBuilder, (actions) -> {
+            this.defaultPredicate(actions);
+
+            // Replaces the document parsed by the predicate, the typed body must be bound from it.
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("code", this.apiOk());
+            document.put("data", Collections.singletonMap("greeting", "Hello document"));
+            actions.andReturn().getRequest().setAttribute(JsonPaths.DOCUMENT_ATTRIBUTE, document);
+        }, GREETING_TYPE);
+
+        Assertions.assertEquals("Hello document", result.getData().getGreeting());
+    }
+
+    @Test
+    void testReaderCached() {
+        Assertions.assertSame(ObjectReaders.forType(GREETING_TYPE), ObjectReaders.forType(new TypeReference<ApiResult<GreetingDTO>>() {}));
+        Assertions.assertSame(ObjectReaders.forType(GreetingDTO.class), ObjectReaders.forType(GreetingDTO.class));
+    }
+}
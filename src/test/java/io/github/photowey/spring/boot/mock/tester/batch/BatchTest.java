@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.batch;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.printer.PrintPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code BatchTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class BatchTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Override
+    protected PrintPolicy printPolicy() {
+        return PrintPolicy.NEVER;
+    }
+
+    @Test
+    void testBatch() throws Exception {
+        List<BatchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(BatchRequest.of(HttpMethod.GET, METHODS_BASE_API + "/get", new HelloQuery("photowey" + i)));
+            requests.add(BatchRequest.of(HttpMethod.POST, METHODS_BASE_API + "/post", new HelloPayload("photowey" + i)));
+        }
+
+        BatchReport report = this.batch(requests, 4);
+
+        Assertions.assertEquals(40, report.total());
+        Assertions.assertEquals(40, report.passed());
+        report.assertAllPassed();
+    }
+
+    @Test
+    void testBatch_failures() throws Exception {
+        List<BatchRequest> requests = new ArrayList<>();
+        requests.add(BatchRequest.of(HttpMethod.GET, METHODS_BASE_API + "/get", new HelloQuery("photowey")));
+        requests.add(BatchRequest.of(HttpMethod.GET, METHODS_BASE_API + "/not-found").named("missing"));
+        requests.add(BatchRequest.of(HttpMethod.POST, METHODS_BASE_API + "/post", new HelloPayload("photowey")));
+
+        BatchReport report = this.batch(requests);
+
+        Assertions.assertEquals(2, report.passed());
+        Assertions.assertEquals(1, report.failures().size());
+        Assertions.assertEquals(1, report.failures().get(0).index());
+        Assertions.assertEquals("missing", report.failures().get(0).request().name());
+
+        AssertionError error = Assertions.assertThrows(AssertionError.class, report::assertAllPassed);
+        Assertions.assertEquals(1, error.getSuppressed().length);
+    }
+}
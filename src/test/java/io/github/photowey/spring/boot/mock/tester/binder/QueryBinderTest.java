@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.binder;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.MultiValueMap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code QueryBinderTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+class QueryBinderTest {
+
+    @Test
+    void testBind() {
+        MultiValueMap<String, String> params = QueryBinder.bind(new HelloQuery("photowey"));
+
+        Assertions.assertEquals(Collections.singletonList("photowey"), params.get("name"));
+        Assertions.assertEquals(1, params.size());
+    }
+
+    @Test
+    void testBind_complex() {
+        PageQuery query = new PageQuery();
+        query.keyword = "tester";
+        query.ids = Arrays.asList(1L, 2L);
+        query.tags = new String[]{"a", "b"};
+        query.page = new Page(1, 20);
+        query.pages = Collections.singletonList(new Page(2, 10));
+        query.secret = "ignored";
+
+        MultiValueMap<String, String> params = QueryBinder.bind(query);
+
+        Assertions.assertEquals(Collections.singletonList("tester"), params.get("kw"));
+        Assertions.assertEquals(Arrays.asList("1", "2"), params.get("ids"));
+        Assertions.assertEquals(Arrays.asList("a", "b"), params.get("tags"));
+        Assertions.assertEquals(Collections.singletonList("1"), params.get("page.current"));
+        Assertions.assertEquals(Collections.singletonList("20"), params.get("page.size"));
+        Assertions.assertEquals(Collections.singletonList("2"), params.get("pages[0].current"));
+        Assertions.assertEquals(Collections.singletonList("tenant"), params.get("tenant"));
+        Assertions.assertFalse(params.containsKey("secret"));
+        Assertions.assertFalse(params.containsKey("empty"));
+    }
+
+    static class BaseQuery {
+
+        private String tenant = "tenant";
+    }
+
+    static class PageQuery extends BaseQuery {
+
+        private static final String CONSTANT = "constant";
+
+        @JsonProperty("kw")
+        private String keyword;
+        private List<Long> ids;
+        private String[] tags;
+        private Page page;
+        private List<Page> pages;
+        private String empty = "";
+
+        @JsonIgnore
+        private String secret;
+    }
+
+    static class Page {
+
+        private final int current;
+        private final int size;
+
+        Page(int current, int size) {
+            this.current = current;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.cache;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * {@code MockMvcCacheTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class MockMvcCacheTest extends LocalTest {
+
+    @Test
+    void testCached() throws Exception {
+        MockMvc cached = this.mockMvc;
+        this.mockMvc();
+
+        Assertions.assertSame(cached, this.mockMvc);
+        Assertions.assertNotSame(cached, this.buildMockMvc());
+
+        super.tryGetHealth();
+    }
+
+    @Test
+    void testInvalidated() {
+        MockMvc cached = this.mockMvc;
+        ((ConfigurableApplicationContext) this.applicationContext).publishEvent(new ContextRefreshedEvent(this.applicationContext));
+        this.mockMvc();
+
+        Assertions.assertNotSame(cached, this.mockMvc);
+    }
+}
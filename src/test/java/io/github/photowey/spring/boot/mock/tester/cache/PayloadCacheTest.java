@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.cache;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.infras.common.json.JSON;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@code PayloadCacheTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class PayloadCacheTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private static final HelloPayload PAYLOAD = new HelloPayload("photowey");
+
+    @Override
+    protected boolean payloadCacheEnabled() {
+        return true;
+    }
+
+    @Test
+    void testCached() {
+        byte[] bytes = PayloadCache.get(PAYLOAD, JSON.Jackson::toBytes);
+
+        Assertions.assertSame(bytes, PayloadCache.get(PAYLOAD, JSON.Jackson::toBytes));
+        Assertions.assertNotSame(bytes, PayloadCache.get(new HelloPayload("photowey"), JSON.Jackson::toBytes));
+        Assertions.assertEquals(JSON.Jackson.toJSONString(PAYLOAD), new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testPost() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            this.doPostRequest(PAYLOAD, METHODS_BASE_API + "/post");
+        }
+
+        Assertions.assertTrue(PayloadCache.size() >= 1);
+    }
+}
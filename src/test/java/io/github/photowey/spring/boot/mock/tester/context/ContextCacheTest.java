@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.context;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.MergedContextConfiguration;
+import org.springframework.test.context.TestContextManager;
+import org.springframework.test.context.TestExecutionListener;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code ContextCacheTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class ContextCacheTest extends LocalTest {
+
+    @Test
+    void testReported() throws Exception {
+        ContextCacheReportingListener listener = new ContextCacheReportingListener();
+        long misses = ContextCacheReport.misses();
+
+        TestContextManager manager = new TestContextManager(PropertiedFixture.class);
+        try {
+            listener.beforeTestClass(manager.getTestContext());
+            listener.prepareTestInstance(manager.getTestContext());
+
+            ContextCacheReport.Entry miss = ContextCacheReport.entry(PropertiedFixture.class);
+            Assertions.assertFalse(miss.hit());
+            Assertions.assertTrue(miss.reason().contains("mock.tester.fixture=miss"), miss.reason());
+            Assertions.assertEquals(misses + 1, ContextCacheReport.misses());
+            Assertions.assertTrue(ContextCacheReport.summary().contains("miss " + PropertiedFixture.class.getName()));
+
+            listener.beforeTestClass(manager.getTestContext());
+            listener.prepareTestInstance(manager.getTestContext());
+
+            ContextCacheReport.Entry hit = ContextCacheReport.entry(PropertiedFixture.class);
+            Assertions.assertTrue(hit.hit());
+            Assertions.assertNull(hit.reason());
+        } finally {
+            manager.getTestContext().markApplicationContextDirty(null);
+        }
+    }
+
+    @Test
+    void testSharedContext() throws Exception {
+        TestContextManager manager = new TestContextManager(SharedFixture.class);
+        new ContextCacheReportingListener().prepareTestInstance(manager.getTestContext());
+
+        Assertions.assertSame(this.applicationContext, manager.getTestContext().getApplicationContext());
+        Assertions.assertTrue(ContextCacheReport.entry(SharedFixture.class).hit());
+        IllegalStateException incompatible = Assertions.assertThrows(IllegalStateException.class, () -> new TestContextManager(ProfiledFixture.class));
+        Assertions.assertTrue(incompatible.getMessage().contains("activeProfiles [dev] vs []"), incompatible.getMessage());
+
+        Assertions.assertSame(Anchor.class, SharedContextBootstrapper.resolveAnchor(ChainedFixture.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> SharedContextBootstrapper.resolveAnchor(CyclicFixture.class));
+    }
+
+    @Test
+    void testScopedToTester() throws Exception {
+        List<TestExecutionListener> listeners = new TestContextManager(ContextCacheTest.class).getTestExecutionListeners();
+        Assertions.assertTrue(listeners.stream().anyMatch((listener) -> listener instanceof ContextCacheReportingListener));
+        // Merged with the defaults.
+        Assertions.assertTrue(listeners.stream().anyMatch((listener) -> listener instanceof DependencyInjectionTestExecutionListener));
+
+        TestContextManager manager = new TestContextManager(PlainFixture.class);
+        Assertions.assertTrue(manager.getTestExecutionListeners().stream()
+                .noneMatch((listener) -> listener instanceof ContextCacheReportingListener));
+
+        ContextCacheReportingCustomizerFactory factory = new ContextCacheReportingCustomizerFactory();
+        Assertions.assertNull(factory.createContextCustomizer(PlainFixture.class, Collections.emptyList()));
+        Assertions.assertNotNull(factory.createContextCustomizer(Anchor.class, Collections.emptyList()));
+
+        // Not reported even if the listener is attached by hand, its context is loaded without the customizer.
+        new ContextCacheReportingListener().prepareTestInstance(manager.getTestContext());
+        Assertions.assertNull(ContextCacheReport.entry(PlainFixture.class));
+    }
+
+    @Test
+    void testExplain() {
+        MergedContextConfiguration loaded = configuration(Anchor.class, new String[0], new String[0]);
+        MergedContextConfiguration profiled = configuration(SharedFixture.class, new String[]{"dev"}, new String[0]);
+        MergedContextConfiguration propertied = configuration(SharedFixture.class, new String[0], new String[]{"a=b"});
+
+        List<MergedContextConfiguration> cached = Collections.singletonList(loaded);
+
+        Assertions.assertEquals("first context", ContextConfigurationDiff.explain(loaded, Collections.emptyList()));
+        Assertions.assertEquals(
+                "activeProfiles [dev] vs [] (closest: " + Anchor.class.getName() + ")",
+                ContextConfigurationDiff.explain(profiled, cached));
+        Assertions.assertEquals(
+                Collections.singletonList("propertySourceProperties [a=b] vs []"),
+                ContextConfigurationDiff.diff(propertied, loaded));
+        Assertions.assertTrue(ContextConfigurationDiff.explain(loaded, Arrays.asList(profiled, loaded)).startsWith("an identical context was evicted"));
+    }
+
+    private static MergedContextConfiguration configuration(Class<?> testClass, String[] profiles, String[] properties) {
+        return new MergedContextConfiguration(
+                testClass,
+                new String[0],
+                new Class<?>[]{App.class},
+                Collections.emptySet(),
+                profiles,
+                new String[0],
+                properties,
+                Collections.emptySet(),
+                null,
+                null,
+                null
+        );
+    }
+
+    @SpringBootTest(classes = App.class)
+    static class Anchor extends LocalTest {
+    }
+
+    @SpringBootTest(classes = App.class, properties = "mock.tester.fixture=miss")
+    static class PropertiedFixture extends LocalTest {
+    }
+
+    @SpringBootTest(classes = App.class)
+    static class PlainFixture {
+    }
+
+    @SharedContext(Anchor.class)
+    static class SharedFixture {
+    }
+
+    @SharedContext(Anchor.class)
+    @ActiveProfiles("dev")
+    static class ProfiledFixture {
+    }
+
+    @SharedContext(SharedFixture.class)
+    static class ChainedFixture {
+    }
+
+    @SharedContext(CyclicPeerFixture.class)
+    static class CyclicFixture {
+    }
+
+    @SharedContext(CyclicFixture.class)
+    static class CyclicPeerFixture {
+    }
+}
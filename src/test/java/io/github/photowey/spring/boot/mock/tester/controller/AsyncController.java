@@ -0,0 +1,90 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.controller;
+
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code AsyncController}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@RestController
+@RequestMapping("/api/v1/async")
+public class AsyncController {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "async-controller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * GET :/async/deferred
+     * <p>
+     * curl -X GET "http://localhost:7923/api/v1/async/deferred?name=photowey"
+     *
+     * @param query {@link HelloQuery}
+     * @return {@link GreetingDTO}
+     */
+    @GetMapping("/deferred")
+    public DeferredResult<ApiResult<GreetingDTO>> deferred(HelloQuery query) {
+        DeferredResult<ApiResult<GreetingDTO>> result = new DeferredResult<>();
+        this.scheduler.schedule(() -> result.setResult(ApiResult.ok(new GreetingDTO(String.format("Hello deferred.%s", query.getName())))), 50, TimeUnit.MILLISECONDS);
+
+        return result;
+    }
+
+    /**
+     * GET :/async/callable
+     * <p>
+     * curl -X GET "http://localhost:7923/api/v1/async/callable?name=photowey"
+     *
+     * @param query {@link HelloQuery}
+     * @return {@link GreetingDTO}
+     */
+    @GetMapping("/callable")
+    public Callable<ApiResult<GreetingDTO>> callable(HelloQuery query) {
+        return () -> ApiResult.ok(new GreetingDTO(String.format("Hello callable.%s", query.getName())));
+    }
+
+    /**
+     * GET :/async/future
+     * <p>
+     * curl -X GET "http://localhost:7923/api/v1/async/future?name=photowey"
+     *
+     * @param query {@link HelloQuery}
+     * @return {@link GreetingDTO}
+     */
+    @GetMapping("/future")
+    public CompletableFuture<ApiResult<GreetingDTO>> future(HelloQuery query) {
+        return CompletableFuture.supplyAsync(() -> ApiResult.ok(new GreetingDTO(String.format("Hello future.%s", query.getName()))));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.controller;
+
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+/**
+ * {@code PrincipalController}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@RestController
+public class PrincipalController {
+
+    /**
+     * GET :/api/v1/principal
+     * <p>
+     * curl -X GET "http://localhost:7923/api/v1/principal"
+     *
+     * @param principal The authenticated user, if any.
+     * @return The name of the authenticated user, or {@code anonymous}.
+     */
+    @GetMapping("/api/v1/principal")
+    public ApiResult<String> principal(Principal principal) {
+        return ApiResult.ok(null != principal ? principal.getName() : "anonymous");
+    }
+
+    /**
+     * GET :/private/principal
+     * <p>
+     * curl -X GET "http://localhost:7923/private/principal"
+     *
+     * @param principal The authenticated user.
+     * @return The name of the authenticated user.
+     */
+    @GetMapping("/private/principal")
+    public ApiResult<String> privatePrincipal(Principal principal) {
+        return ApiResult.ok(principal.getName());
+    }
+}
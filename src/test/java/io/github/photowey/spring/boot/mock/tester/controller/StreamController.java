@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.controller;
+
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@code StreamController}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@RestController
+@RequestMapping("/api/v1/stream")
+public class StreamController {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool((runnable) -> {
+        Thread thread = new Thread(runnable, "stream-controller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * GET :/stream/sse
+     * <p>
+     * curl -N -X GET "http://localhost:7923/api/v1/stream/sse?count=10"
+     *
+     * @param count The number of events.
+     * @return {@link SseEmitter}
+     */
+    @GetMapping(value = "/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter sse(@RequestParam("count") int count) {
+        SseEmitter emitter = new SseEmitter();
+        this.executor.execute(() -> {
+            try {
+                for (int i = 0; i < count; i++) {
+                    emitter.send(SseEmitter.event()
+                            .id(String.valueOf(i))
+                            .name("greeting")
+                            .data(new GreetingDTO("Hello sse." + i), MediaType.APPLICATION_JSON));
+                }
+                emitter.complete();
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+            }
+        });
+
+        return emitter;
+    }
+
+    /**
+     * GET :/stream/chunked
+     * <p>
+     * curl -N -X GET "http://localhost:7923/api/v1/stream/chunked?count=10"
+     *
+     * @param count The number of chunks.
+     * @return {@link StreamingResponseBody}
+     */
+    @GetMapping(value = "/chunked", produces = MediaType.TEXT_PLAIN_VALUE)
+    public StreamingResponseBody chunked(@RequestParam("count") int count) {
+        return (output) -> {
+            for (int i = 0; i < count; i++) {
+                output.write(("chunk." + i + "\n").getBytes(StandardCharsets.UTF_8));
+                output.flush();
+            }
+        };
+    }
+
+    /**
+     * GET :/stream/non-blocking
+     * <p>
+     * curl -N -X GET "http://localhost:7923/api/v1/stream/non-blocking?count=10"
+     *
+     * @param count The number of chunks.
+     * @return {@link StreamingResponseBody}
+     */
+    @GetMapping(value = "/non-blocking", produces = MediaType.TEXT_PLAIN_VALUE)
+    public StreamingResponseBody nonBlocking(@RequestParam("count") int count) {
+        return (output) -> {
+            ServletOutputStream stream = (ServletOutputStream) output;
+            stream.setWriteListener(new WriteListener() {
+
+                private int written;
+
+                @Override
+                public void onWritePossible() throws IOException {
+                    while (this.written < count && stream.isReady()) {
+                        stream.write(("chunk." + this.written++ + "\n").getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        };
+    }
+}
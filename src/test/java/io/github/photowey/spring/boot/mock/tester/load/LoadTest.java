@@ -0,0 +1,154 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.load;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * {@code LoadTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class LoadTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private volatile boolean failing;
+
+    @Override
+    protected MockMvc currentMockMvc() {
+        if (this.failing) {
+            throw new IllegalStateException("Failing worker");
+        }
+
+        return super.currentMockMvc();
+    }
+
+    @Test
+    void testLoad() throws Exception {
+        LoadTestReport report = this.loadTest(HttpMethod.POST, METHODS_BASE_API + "/post", new HelloPayload("photowey"), 4, 202);
+
+        Assertions.assertEquals(202, report.requests());
+        Assertions.assertEquals(0, report.errors());
+        Assertions.assertTrue(report.throughput() > 0);
+        Assertions.assertTrue(report.p50().compareTo(report.p99()) <= 0);
+        Assertions.assertTrue(report.p99().compareTo(report.p999()) <= 0);
+    }
+
+    @Test
+    void testSecurityContextPropagation() throws Exception {
+        Set<Object> principals = ConcurrentHashMap.newKeySet();
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("tester", "tester"));
+        try {
+            LoadTestReport report = this.loadTest(() -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                principals.add(null != authentication ? authentication.getPrincipal() : "anonymous");
+
+                return this.newRequestBuilder(HttpMethod.POST, new HelloPayload("photowey"), METHODS_BASE_API + "/post");
+            }, 4, 16);
+
+            Assertions.assertEquals(0, report.errors());
+            Assertions.assertEquals(Collections.singleton("tester"), principals);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void testWorkerFailure() {
+        this.failing = true;
+        try {
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                Assertions.assertThrows(ExecutionException.class,
+                        () -> this.loadTest(HttpMethod.POST, METHODS_BASE_API + "/post", new HelloPayload("photowey"), 4, 16));
+            });
+        } finally {
+            this.failing = false;
+        }
+    }
+
+    @Test
+    void testHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        Assertions.assertEquals(10_000, histogram.count());
+        Assertions.assertEquals(1_000L, histogram.min());
+        Assertions.assertEquals(10_000_000L, histogram.max());
+        Assertions.assertEquals(5_000_000D, histogram.valueAtPercentile(50D), 5_000_000D * 0.01D);
+        Assertions.assertEquals(9_900_000D, histogram.valueAtPercentile(99D), 9_900_000D * 0.01D);
+
+        for (int i = 0; i < 4096; i++) {
+            long value = 1L << (i % 62);
+            Assertions.assertTrue(LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value)) >= value);
+        }
+    }
+
+    @Test
+    void testHistogramRelativeError() {
+        for (long value = 0; value < 128; value++) {
+            Assertions.assertEquals(value, LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value)));
+        }
+
+        // The worst case: the lowest value of a bucket, just above a power of two.
+        long worst = 1L << 20;
+        Assertions.assertEquals(65L * (1L << 14) - 1, LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(worst)));
+        Assertions.assertTrue(relativeError(worst) > 0.01D);
+
+        Random random = new Random(20261017L);
+        for (int i = 0; i < 100_000; i++) {
+            long value = 128L + (random.nextLong() >>> (1 + random.nextInt(56)));
+            Assertions.assertTrue(belowOneSixtyFourth(value), String.valueOf(value));
+        }
+        for (int bits = 7; bits < 62; bits++) {
+            Assertions.assertTrue(belowOneSixtyFourth(1L << bits));
+            Assertions.assertTrue(belowOneSixtyFourth((1L << bits) - 1));
+        }
+    }
+
+    private static double relativeError(long value) {
+        return (double) (LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value)) - value) / value;
+    }
+
+    /**
+     * Exact, the large values do not fit in the mantissa of a double.
+     */
+    private static boolean belowOneSixtyFourth(long value) {
+        return LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexOf(value)) - value < value / 64;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.matcher;
+
+import com.jayway.jsonpath.JsonPath;
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@code JsonPathMatchersTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class JsonPathMatchersTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Test
+    void testJsonPath() throws Exception {
+        AtomicReference<Object> document = new AtomicReference<>();
+
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get", (actions) -> {
+            try {
+                actions.andExpect(JsonPathMatchers.jsonPath(this.okPattern()).value(this.apiOk()))
+                        .andExpect(JsonPathMatchers.jsonPath("$.code").value(200))
+                        .andExpect(JsonPathMatchers.jsonPath("$.data.greeting").value("Hello get.photowey"))
+                        .andExpect(JsonPathMatchers.jsonPath("$.data.greeting").value(Matchers.startsWith("Hello")))
+                        .andExpect(JsonPathMatchers.jsonPath("$.data").exists())
+                        .andExpect(JsonPathMatchers.jsonPath("$.data.absent").doesNotExist());
+
+                MvcResult result = actions.andReturn();
+                document.set(result.getRequest().getAttribute(JsonPaths.DOCUMENT_ATTRIBUTE));
+                Assertions.assertSame(document.get(), JsonPaths.document(result));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        Assertions.assertTrue(document.get() instanceof Map);
+        Assertions.assertSame(JsonPaths.compile("$.code"), JsonPaths.compile("$.code"));
+    }
+
+    @Test
+    void testCompile_bounded() {
+        JsonPath code = JsonPaths.compile("$.code");
+        for (int i = 0; i <= JsonPaths.MAX_ENTRIES; i++) {
+            JsonPaths.compile("$.data[" + i + "]");
+        }
+
+        Assertions.assertEquals(JsonPaths.MAX_ENTRIES, JsonPaths.size());
+        Assertions.assertEquals("$['data'][" + JsonPaths.MAX_ENTRIES + "]",
+                JsonPaths.compile("$.data[" + JsonPaths.MAX_ENTRIES + "]").getPath());
+        Assertions.assertSame(code, JsonPaths.compile("$.code"));
+    }
+
+    @Test
+    void testJsonPath_mismatch() {
+        Assertions.assertThrows(AssertionError.class, () -> this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get", (actions) -> {
+            try {
+                actions.andExpect(JsonPathMatchers.jsonPath("$.data.greeting").value("Hello get.tester"));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }));
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+/**
+ * {@code LatencyBudgetTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class LatencyBudgetTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Test
+    void testWithin() throws Exception {
+        String response = this.expectWithin(Duration.ofSeconds(5), () -> this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get"));
+
+        Assertions.assertNotNull(response);
+    }
+
+    @Test
+    void testExceeded() {
+        LatencyBudget budget = LatencyBudget.of(Duration.ZERO).warmups(1).repetitions(3);
+
+        AssertionError error = Assertions.assertThrows(AssertionError.class,
+                () -> this.expectWithin(budget, () -> this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get")));
+        Assertions.assertTrue(error.getMessage().contains("/api/v1/get"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.metrics;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * {@code RequestMetricsTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class RequestMetricsTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private final List<RequestTimings> recorded = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final List<RequestMetricsListener> listeners = Arrays.asList(
+            this.recorded::add,
+            new MicrometerRequestMetricsListener(this.registry)
+    );
+
+    @Override
+    protected List<RequestMetricsListener> requestMetricsListeners() {
+        return this.listeners;
+    }
+
+    @Test
+    void testTimings() throws Exception {
+        this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post");
+
+        Assertions.assertEquals(1, this.recorded.size());
+
+        RequestTimings timings = this.recorded.get(0);
+        Assertions.assertSame(timings, this.lastTimings());
+        Assertions.assertEquals(HttpMethod.POST, timings.method());
+        Assertions.assertEquals(METHODS_BASE_API + "/post", timings.route());
+        Assertions.assertEquals(200, timings.status());
+        Assertions.assertTrue(timings.nanos(RequestPhase.SERIALIZE) > 0);
+        Assertions.assertTrue(timings.nanos(RequestPhase.FILTER_CHAIN) > 0);
+        Assertions.assertTrue(timings.nanos(RequestPhase.DISPATCH) > 0);
+        Assertions.assertTrue(timings.nanos(RequestPhase.ASSERT) > 0);
+        Assertions.assertTrue(timings.nanos(RequestPhase.DECODE) > 0);
+    }
+
+    @Test
+    void testDecodeTimings() throws Exception {
+        this.doRequestForBody(HttpMethod.GET, new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+        Assertions.assertEquals(0, this.lastTimings().nanos(RequestPhase.DECODE));
+
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get", Map.class);
+        Assertions.assertTrue(this.lastTimings().nanos(RequestPhase.ASSERT) > 0);
+        Assertions.assertTrue(this.lastTimings().nanos(RequestPhase.DECODE) > 0);
+    }
+
+    @Test
+    void testAsyncTimings() throws Exception {
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/async/deferred");
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/async/callable");
+
+        Assertions.assertEquals(2, this.recorded.size());
+        for (RequestTimings timings : this.recorded) {
+            Assertions.assertEquals(200, timings.status());
+            Assertions.assertTrue(timings.nanos(RequestPhase.FILTER_CHAIN) > 0, timings.toString());
+            Assertions.assertTrue(timings.nanos(RequestPhase.DISPATCH) > 0, timings.toString());
+            Assertions.assertTrue(timings.nanos(RequestPhase.ASYNC_WAIT) >= 0, timings.toString());
+        }
+    }
+
+    @Test
+    void testMicrometer() throws Exception {
+        this.tryGetHealth();
+
+        Timer timer = this.registry.find(MicrometerRequestMetricsListener.METRIC_NAME)
+                .tag("phase", "dispatch")
+                .tag("route", "/healthz")
+                .timer();
+
+        Assertions.assertNotNull(timer);
+        Assertions.assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.report;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestMetricsListeners;
+import io.github.photowey.spring.boot.mock.tester.metrics.RequestPhase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * {@code SlowestRequestsTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+@ExtendWith(SlowestRequestsExtension.class)
+class SlowestRequestsTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Test
+    void testCollect(@TempDir Path directory) throws Exception {
+        SlowestRequestsCollector collector = new SlowestRequestsCollector(2);
+        RequestMetricsListeners.register(collector);
+        try {
+            for (int i = 0; i < 3; i++) {
+                this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+                this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post");
+            }
+            this.doPostRequest(METHODS_BASE_API + "/post/empty/1711185600000");
+        } finally {
+            RequestMetricsListeners.unregister(collector);
+        }
+
+        Assertions.assertEquals(2, collector.slowest().size());
+        Assertions.assertEquals(3, collector.routes().size());
+        Assertions.assertTrue(collector.routes().stream().anyMatch((stats) -> "POST /api/v1/post/empty/{userId}".equals(stats.route())));
+
+        collector.writeTo(directory);
+
+        String json = new String(Files.readAllBytes(directory.resolve(SlowestRequestsCollector.JSON_FILE)), StandardCharsets.UTF_8);
+        String markdown = new String(Files.readAllBytes(directory.resolve(SlowestRequestsCollector.MARKDOWN_FILE)), StandardCharsets.UTF_8);
+        Assertions.assertTrue(json.contains("\"route\" : \"GET /api/v1/get\""));
+        Assertions.assertTrue(markdown.contains("`GET /api/v1/get`"));
+        Assertions.assertTrue(markdown.contains("| Async wait | Assert | Decode |"));
+
+        // The header, the separator and the 2 rows of the slowest requests.
+        String[] lines = markdown.split("\n");
+        int columns = columns(lines[2]);
+        Assertions.assertEquals(5 + RequestPhase.values().length, columns);
+        for (int i = 3; i < 6; i++) {
+            Assertions.assertEquals(columns, columns(lines[i]), lines[i]);
+        }
+    }
+
+    private static int columns(String line) {
+        return line.length() - line.replace("|", "").length() - 1;
+    }
+}
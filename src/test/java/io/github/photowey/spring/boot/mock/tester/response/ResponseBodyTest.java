@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.response;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * {@code ResponseBodyTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class ResponseBodyTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Test
+    void testGetForBody() throws Exception {
+        ResponseBody body = this.doRequestForBody(HttpMethod.GET, new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+
+        Assertions.assertEquals(200, body.status());
+        Assertions.assertSame(body.bytes(), body.bytes());
+        Assertions.assertSame(body.string(), body.string());
+        Assertions.assertEquals(body.size(), body.string().getBytes(StandardCharsets.UTF_8).length);
+
+        ApiResult<GreetingDTO> result = body.as(new TypeReference<ApiResult<GreetingDTO>>() {});
+        Assertions.assertEquals("Hello get.photowey", result.getData().getGreeting());
+    }
+
+    @Test
+    void testPostForBody() throws Exception {
+        ResponseBody body = this.doRequestForBody(HttpMethod.POST, new HelloPayload("photowey"), METHODS_BASE_API + "/post");
+
+        Assertions.assertEquals(this.apiOk(), body.as(ApiResult.class).getCode());
+    }
+
+    @Test
+    void testStringFromResponseBuffer() throws Exception {
+        MvcResult result = this.currentMockMvc().perform(get(METHODS_BASE_API + "/get").queryParam("name", "caf\u00e9")).andReturn();
+
+        // Decoded from the response buffer, or from the copied bytes.
+        String decoded = new ResponseBody(result).string();
+        ResponseBody copied = new ResponseBody(result);
+        copied.bytes();
+
+        Assertions.assertTrue(decoded.contains("Hello get.caf\u00e9"), decoded);
+        Assertions.assertEquals(decoded, copied.string());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.security;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.template.RequestTemplate;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code MockUsersTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class MockUsersTest extends LocalTest {
+
+    @BeforeAll
+    static void registerUsers() {
+        MockUsers.register(MockUser.of("admin").roles("ADMIN"));
+    }
+
+    @AfterAll
+    static void unregisterUsers() {
+        MockUsers.unregister("admin");
+    }
+
+    private String mockUser;
+
+    @Override
+    protected String defaultMockUser() {
+        return this.mockUser;
+    }
+
+    @Test
+    void testCached() {
+        Authentication authentication = MockUsers.authentication("admin");
+
+        Assertions.assertSame(authentication, MockUsers.authentication("admin"));
+        Assertions.assertNotSame(MockUsers.context("admin"), MockUsers.context("admin"));
+        Assertions.assertTrue(authentication.isAuthenticated());
+        Assertions.assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void testAsUser() throws Exception {
+        MockHttpServletRequestBuilder requestBuilder = get("/private");
+        this.asUser("admin").accept(requestBuilder);
+
+        // Authenticated, so the unmapped route is not found instead of forbidden.
+        this.currentMockMvc().perform(requestBuilder).andExpect(status().isNotFound());
+        this.currentMockMvc().perform(get("/private")).andExpect(status().isForbidden());
+
+        // Only set on the executing thread during the request.
+        Assertions.assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void testDefaultMockUserOfTemplate() {
+        RequestTemplate template = RequestTemplate.of(HttpMethod.GET, "/private");
+
+        AssertionError anonymous = Assertions.assertThrows(AssertionError.class, () -> this.doRequest(template, this::emptyPredicate));
+        Assertions.assertTrue(anonymous.getMessage().contains("403"), anonymous.getMessage());
+
+        this.mockUser = "admin";
+        AssertionError authenticated = Assertions.assertThrows(AssertionError.class, () -> this.doRequest(template, this::emptyPredicate));
+        Assertions.assertTrue(authenticated.getMessage().contains("404"), authenticated.getMessage());
+    }
+}
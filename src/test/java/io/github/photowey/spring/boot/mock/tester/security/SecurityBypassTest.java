@@ -0,0 +1,134 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.security;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * {@code SecurityBypassTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class SecurityBypassTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Override
+    protected boolean securityBypassEnabled() {
+        return true;
+    }
+
+    @Test
+    void testBypass() throws Exception {
+        PermitAllBypassFilter filter = PermitAllBypassFilter.of(this.springSecurityFilterChain());
+
+        Assertions.assertTrue(this.filters().contains(filter));
+        Assertions.assertTrue(filter.isPermitAll(new MockHttpServletRequest("GET", "/healthz")));
+        Assertions.assertTrue(filter.isPermitAll(new MockHttpServletRequest("POST", METHODS_BASE_API + "/post")));
+        Assertions.assertFalse(filter.isPermitAll(new MockHttpServletRequest("GET", "/private")));
+
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+        this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post");
+    }
+
+    @Test
+    void testBypassSkipsChain() throws Exception {
+        PermitAllBypassFilter filter = PermitAllBypassFilter.of(this.springSecurityFilterChain());
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        filter.doFilter(this.newRequest(METHODS_BASE_API + "/get"), new MockHttpServletResponse(), (request, response) -> {
+            seen.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+        // No filter of the chain ran, e.g.: the AnonymousAuthenticationFilter.
+        Assertions.assertNull(seen.get());
+
+        this.springSecurityFilterChain().doFilter(this.newRequest(METHODS_BASE_API + "/get"), new MockHttpServletResponse(), (request, response) -> {
+            seen.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+        Assertions.assertTrue(seen.get() instanceof AnonymousAuthenticationToken);
+    }
+
+    @Test
+    void testBypassDecisionCached() {
+        PermitAllBypassFilter filter = PermitAllBypassFilter.of(this.springSecurityFilterChain());
+
+        Assertions.assertTrue(filter.isPermitAll(new MockHttpServletRequest("GET", METHODS_BASE_API + "/cached")));
+        int size = filter.size();
+        Assertions.assertTrue(filter.isPermitAll(new MockHttpServletRequest("GET", METHODS_BASE_API + "/cached")));
+        Assertions.assertEquals(size, filter.size());
+        Assertions.assertTrue(size <= PermitAllBypassFilter.MAX_ENTRIES);
+    }
+
+    @Test
+    void testPrincipalNotBypassed() {
+        PermitAllBypassFilter filter = PermitAllBypassFilter.of(this.springSecurityFilterChain());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", METHODS_BASE_API + "/get");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer photowey");
+        Assertions.assertFalse(filter.isPermitAll(request));
+
+        MockHttpServletRequest rejected = new MockHttpServletRequest("GET", METHODS_BASE_API + "/get;jsessionid=photowey");
+        rejected.setRequestURI(METHODS_BASE_API + "/get;jsessionid=photowey");
+        Assertions.assertFalse(filter.isPermitAll(rejected));
+    }
+
+    @Test
+    void testBypassKeepsAuthentication() throws Exception {
+        MockUsers.register(MockUser.of("bypassed").roles("ADMIN"));
+        try {
+            String anonymous = this.doGetRequest(METHODS_BASE_API + "/principal");
+            String authenticated = this.doGetRequest(METHODS_BASE_API + "/principal", this.asUser("bypassed"), this::defaultPredicate);
+
+            Assertions.assertTrue(anonymous.contains("\"data\":\"anonymous\""), anonymous);
+            Assertions.assertTrue(authenticated.contains("\"data\":\"bypassed\""), authenticated);
+        } finally {
+            MockUsers.unregister("bypassed");
+        }
+    }
+
+    @Test
+    void testSecured() throws Exception {
+        int status = this.currentMockMvc().perform(get("/private")).andReturn().getResponse().getStatus();
+
+        Assertions.assertEquals(403, status);
+    }
+
+    private MockHttpServletRequest newRequest(String route) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", route);
+        request.setServletPath(route);
+
+        return request;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.snapshot;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code SnapshotTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class SnapshotTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testXxHash64() {
+        Assertions.assertEquals("ef46db3751d8e999", XxHash64.toHex(XxHash64.hash(bytes(""))));
+        Assertions.assertEquals("d24ec4f1a98c6e5b", XxHash64.toHex(XxHash64.hash(bytes("a"))));
+        Assertions.assertEquals("44bc2cf5ad770999", XxHash64.toHex(XxHash64.hash(bytes("abc"))));
+    }
+
+    @Test
+    void testNormalize() {
+        Assertions.assertEquals(
+                SnapshotNormalizer.normalize("{\"b\":1,\"a\":[{\"d\":2,\"c\":3}]}"),
+                SnapshotNormalizer.normalize("\uFEFF{ \"a\" : [ { \"c\" : 3, \"d\" : 2 } ], \"b\" : 1 }\r\n")
+        );
+        Assertions.assertEquals("line1\nline2", SnapshotNormalizer.normalize("line1\r\nline2\r\n"));
+        Assertions.assertEquals("line1\n\n  line3", SnapshotNormalizer.normalize("line1 \t\r\n  \n  line3  "));
+    }
+
+    @Test
+    void testStore() throws Exception {
+        SnapshotStore store = SnapshotStore.of(this.dir, SnapshotTest.class);
+        Path directory = store.directory();
+
+        Assertions.assertThrows(AssertionFailedError.class, () -> store.assertMatches("hello", "{\"a\":1}", false));
+
+        store.assertMatches("hello", "{\"a\":1}", true);
+        store.assertMatches("hello world", "plain", true);
+        Assertions.assertEquals(2, store.size());
+        Assertions.assertTrue(Files.exists(directory.resolve("hello.snap")));
+        Assertions.assertTrue(Files.exists(directory.resolve("hello%20world.snap")));
+
+        List<String> index = Files.readAllLines(directory.resolve("index"));
+        Assertions.assertEquals(Arrays.asList("hello=", "hello%20world="), Arrays.asList(
+                index.get(0).substring(0, 6), index.get(1).substring(0, 14)));
+
+        // Matching hashes: the golden bodies are not read.
+        Files.delete(directory.resolve("hello.snap"));
+        store.assertMatches("hello", "{ \"a\" : 1 }", false);
+
+        AssertionFailedError error = Assertions.assertThrows(
+                AssertionFailedError.class, () -> store.assertMatches("hello world", "changed", false));
+        Assertions.assertTrue(error.getMessage().contains("first difference at line 1"));
+        Assertions.assertEquals("plain", error.getExpected().getValue());
+
+        // Only the changed entry is rewritten.
+        long modified = Files.getLastModifiedTime(directory.resolve("hello%20world.snap")).toMillis();
+        store.assertMatches("hello world", "changed", true);
+        Assertions.assertEquals("changed", new String(Files.readAllBytes(directory.resolve("hello%20world.snap")), StandardCharsets.UTF_8));
+        Assertions.assertFalse(Files.exists(directory.resolve("hello.snap")));
+        Assertions.assertTrue(Files.getLastModifiedTime(directory.resolve("hello%20world.snap")).toMillis() >= modified);
+    }
+
+    @Test
+    void testSanitize() throws Exception {
+        Assertions.assertEquals("a%2Fb", SnapshotStore.sanitize("a/b"));
+        Assertions.assertEquals("a%20b", SnapshotStore.sanitize("a b"));
+        Assertions.assertEquals("a_b", SnapshotStore.sanitize("a_b"));
+        Assertions.assertEquals("a%25b", SnapshotStore.sanitize("a%b"));
+        Assertions.assertEquals("caf\u00e9%E2%82%AC", SnapshotStore.sanitize("caf\u00e9\u20ac"));
+
+        SnapshotStore store = SnapshotStore.of(this.dir, SnapshotTest.class);
+        store.assertMatches("a/b", "slash", true);
+        store.assertMatches("a b", "space", true);
+        store.assertMatches("a_b", "underscore", true);
+        Assertions.assertEquals(3, store.size());
+
+        store.assertMatches("a/b", "slash", false);
+        store.assertMatches("a b", "space", false);
+        Assertions.assertThrows(AssertionFailedError.class, () -> store.assertMatches("a_b", "space", false));
+    }
+
+    @Test
+    void testAssertMatchesSnapshot() throws Exception {
+        this.assertMatchesSnapshot("get", this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get"));
+        this.assertMatchesSnapshot("post", this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post"));
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.stream;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code StreamingTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class StreamingTest extends LocalTest {
+
+    private static final String STREAM_BASE_API = "/api/v1/stream";
+
+    @Test
+    void testParser() {
+        List<ServerSentEvent> events = new ArrayList<>();
+        ServerSentEventParser parser = new ServerSentEventParser(events::add);
+
+        byte[] bytes = ("\uFEFF: comment\r\nid: 1\r\nevent: greeting\r\ndata: hello\r\ndata:world\r\n\r\n"
+                + "retry: 3000\ndata: 你好\n\n"
+                + "data: incomplete").getBytes(StandardCharsets.UTF_8);
+        // Byte by byte, so the lines and the multibyte characters are split across feeds.
+        for (int i = 0; i < bytes.length; i++) {
+            parser.feed(bytes, i, 1);
+        }
+
+        Assertions.assertEquals(2, events.size());
+        Assertions.assertEquals("1", events.get(0).id());
+        Assertions.assertEquals("greeting", events.get(0).event());
+        Assertions.assertEquals("hello\nworld", events.get(0).data());
+        Assertions.assertEquals("1", events.get(1).id());
+        Assertions.assertEquals(ServerSentEvent.DEFAULT_EVENT, events.get(1).event());
+        Assertions.assertEquals("你好", events.get(1).data());
+        Assertions.assertEquals(3000L, events.get(1).retry());
+    }
+
+    @Test
+    void testSse() throws Exception {
+        StreamingResult result = this.doStreamRequest(HttpMethod.GET, null, STREAM_BASE_API + "/sse", (builder) -> {
+            builder.param("count", "2000").accept(MediaType.TEXT_EVENT_STREAM);
+        }, (actions) -> {
+            try {
+                actions.andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }, StreamingResult.of());
+
+        result.expectCount(2000)
+                .expectFirstEventWithin(Duration.ofSeconds(5))
+                .expectRateAtLeast(10);
+
+        Assertions.assertEquals("1999", result.events().get(1999).id());
+        Assertions.assertEquals("{\"greeting\":\"Hello sse.0\"}", result.events().get(0).data());
+        Assertions.assertTrue(result.chunks() >= 2000);
+        Assertions.assertNotNull(result.elapsed());
+    }
+
+    @Test
+    void testListener() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        StreamingResult result = this.doStreamRequest(HttpMethod.GET, null, STREAM_BASE_API + "/sse?count=100", (event) -> {
+            counter.incrementAndGet();
+        });
+
+        result.expectCount(100);
+        Assertions.assertEquals(100, counter.get());
+        Assertions.assertTrue(result.events().isEmpty());
+    }
+
+    @Test
+    void testChunked() throws Exception {
+        StreamingResult result = this.doStreamRequest(HttpMethod.GET, null, STREAM_BASE_API + "/chunked?count=50");
+
+        result.expectChunksAtLeast(50).expectCount(0);
+        Assertions.assertNotNull(result.firstChunkLatency());
+        Assertions.assertTrue(result.bytes() > 0);
+
+        AssertionError error = Assertions.assertThrows(AssertionError.class, () -> result.expectFirstEventWithin(Duration.ofSeconds(1)));
+        Assertions.assertTrue(error.getMessage().contains("no event"));
+    }
+
+    @Test
+    void testNonBlocking() throws Exception {
+        StreamingResult result = this.doStreamRequest(HttpMethod.GET, null, STREAM_BASE_API + "/non-blocking?count=10");
+
+        result.expectChunksAtLeast(1).expectCount(0);
+        Assertions.assertEquals("chunk.0\n".length() * 10, result.bytes());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.template;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.matcher.JsonPathMatchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * {@code RequestTemplateTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class RequestTemplateTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @Test
+    void testTemplate() throws Exception {
+        RequestTemplate template = RequestTemplate.of(HttpMethod.POST, METHODS_BASE_API + "/post")
+                .header("X-Tenant", "tester")
+                .body(new HelloPayload("photowey"));
+
+        for (int i = 0; i < 3; i++) {
+            String name = "photowey" + i;
+            this.doRequest(template.withField("name", name), (actions) -> {
+                try {
+                    actions.andExpect(JsonPathMatchers.jsonPath("$.data.greeting").value("Hello post." + name));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            });
+        }
+
+        Assertions.assertEquals("{\"name\":\"photowey\"}", new String(template.body(), StandardCharsets.UTF_8));
+        Assertions.assertEquals("tester", template.headers().getFirst("X-Tenant"));
+    }
+
+    @Test
+    void testUriVars() throws Exception {
+        RequestTemplate template = RequestTemplate.of(HttpMethod.POST, METHODS_BASE_API + "/post/empty/{userId}");
+
+        this.doRequest(template, 1711185600000L);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> template.headers().add("X-Tenant", "tester"));
+    }
+
+    @Test
+    void testParam() {
+        RequestTemplate template = RequestTemplate.of(HttpMethod.GET, METHODS_BASE_API + "/get").param("name", "photowey");
+        RequestTemplate appended = template.param("name", "tester").param("name", "mock");
+
+        Assertions.assertEquals(Arrays.asList("photowey", "tester", "mock"), appended.params().get("name"));
+        Assertions.assertEquals(Collections.singletonList("photowey"), template.params().get("name"));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> appended.params().add("name", "other"));
+    }
+}
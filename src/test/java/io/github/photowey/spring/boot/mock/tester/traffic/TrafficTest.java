@@ -0,0 +1,248 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.traffic;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.security.MockUser;
+import io.github.photowey.spring.boot.mock.tester.security.MockUsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.LinkedMultiValueMap;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code TrafficTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class TrafficTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    private String mockUser;
+
+    @Override
+    protected Path trafficRecordFile() {
+        return this.file;
+    }
+
+    @Override
+    protected String defaultMockUser() {
+        return this.mockUser;
+    }
+
+    @Test
+    void testRecordAndReplay() throws Exception {
+        this.file = this.dir.resolve("record.bin");
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+        this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post");
+        this.doPostRequest(METHODS_BASE_API + "/post/empty/1711185600000");
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/async/deferred");
+        this.file = null;
+
+        List<TrafficRecord> records = read(this.dir.resolve("record.bin"), true);
+        Assertions.assertEquals(4, records.size());
+        Assertions.assertEquals("GET", records.get(0).method());
+        Assertions.assertEquals(METHODS_BASE_API + "/get?name=photowey", records.get(0).route());
+        Assertions.assertEquals("{\"name\":\"photowey\"}", new String(records.get(1).requestBody(), StandardCharsets.UTF_8));
+        Assertions.assertEquals(200, records.get(1).status());
+        Assertions.assertTrue(new String(records.get(1).responseBody(), StandardCharsets.UTF_8).contains("Hello post.photowey"));
+
+        ReplayReport report = this.replay(this.dir.resolve("record.bin"));
+        report.assertNoDifferences();
+        Assertions.assertEquals(4, report.total());
+    }
+
+    @Test
+    void testDifferences() throws Exception {
+        this.file = this.dir.resolve("differences.bin");
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+        this.file = null;
+
+        TrafficRecord recorded = read(this.dir.resolve("differences.bin"), true).get(0);
+        TrafficRecorder recorder = TrafficRecorder.of(this.dir.resolve("differences.bin"));
+        recorder.append(new TrafficRecord(recorded.method(), recorded.route(), recorded.requestHeaders(), recorded.requestBody(),
+                recorded.status(), recorded.responseHeaders(), "{\"code\":\"200\",\"message\":\"OK\",\"data\":{\"greeting\":\"Hello\"}}".getBytes(StandardCharsets.UTF_8)));
+        recorder.append(new TrafficRecord(recorded.method(), recorded.route(), recorded.requestHeaders(), recorded.requestBody(),
+                500, recorded.responseHeaders(), recorded.responseBody()));
+
+        ReplayReport report = this.replay(this.dir.resolve("differences.bin"));
+
+        Assertions.assertEquals(3, report.total());
+        Assertions.assertEquals(2, report.differences().size());
+        Assertions.assertEquals(1, report.differences().get(0).index());
+        Assertions.assertTrue(report.differences().get(0).reason().startsWith("body at /data/greeting"));
+        Assertions.assertEquals("status: expected 500, actual 200", report.differences().get(1).reason());
+        Assertions.assertThrows(AssertionError.class, report::assertNoDifferences);
+    }
+
+    @Test
+    void testParallelReplay() throws Exception {
+        Path log = this.dir.resolve("parallel.bin");
+        this.file = log;
+        this.doGetRequest(new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+        this.file = null;
+
+        TrafficRecorder recorder = TrafficRecorder.of(log);
+        TrafficRecord recorded = read(log, true).get(0);
+        for (int i = 0; i < 2000; i++) {
+            recorder.append(recorded);
+        }
+
+        ReplayReport report = this.replay(log, 4);
+
+        report.assertNoDifferences();
+        Assertions.assertEquals(2001, report.total());
+    }
+
+    @Test
+    void testTornTail() throws Exception {
+        Path log = this.dir.resolve("torn.bin");
+        TrafficRecorder recorder = TrafficRecorder.of(log);
+        recorder.append(new TrafficRecord("GET", "/a", new LinkedMultiValueMap<>(), null,
+                200, new LinkedMultiValueMap<>(), "a".getBytes(StandardCharsets.UTF_8)));
+        recorder.close();
+
+        // A record torn by a crash: the length prefix is written, the payload is not.
+        Files.write(log, new byte[]{0, 0, 0, 64, 1, 2}, StandardOpenOption.APPEND);
+
+        Assertions.assertEquals(1, read(log, true).size());
+        Assertions.assertEquals(1, read(log, false).size());
+        Assertions.assertEquals("/a", read(log, false).get(0).route());
+    }
+
+    @Test
+    void testReplayAsDefaultMockUser() throws Exception {
+        Path log = this.dir.resolve("secured.bin");
+        // Recorded as an authenticated user: the unmapped secured route is not found instead of forbidden.
+        TrafficRecorder.of(log).append(new TrafficRecord("GET", "/private", new LinkedMultiValueMap<>(), null,
+                404, new LinkedMultiValueMap<>(), new byte[0]));
+
+        MockUsers.register(MockUser.of("replayer").roles("ADMIN"));
+        try {
+            Assertions.assertEquals("status: expected 404, actual 403", this.replay(log).differences().get(0).reason());
+
+            this.mockUser = "replayer";
+            this.replay(log).assertNoDifferences();
+        } finally {
+            this.mockUser = null;
+            MockUsers.unregister("replayer");
+        }
+    }
+
+    @Test
+    void testAppendAfterTornTail() throws Exception {
+        Path log = this.dir.resolve("torn-append.bin");
+        TrafficRecorder recorder = TrafficRecorder.of(log);
+        recorder.append(record("/a"));
+        recorder.append(record("/b"));
+        recorder.close();
+
+        // Torn by a crash in the middle of the second record.
+        long size = Files.size(log);
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+            channel.truncate(size - 5);
+        }
+
+        recorder = TrafficRecorder.of(log);
+        recorder.append(record("/c"));
+        recorder.append(record("/d"));
+        recorder.close();
+
+        for (boolean mapped : new boolean[]{true, false}) {
+            List<TrafficRecord> records = read(log, mapped);
+            Assertions.assertEquals(3, records.size());
+            Assertions.assertEquals("/a", records.get(0).route());
+            Assertions.assertEquals("/c", records.get(1).route());
+            Assertions.assertEquals("/d", records.get(2).route());
+        }
+    }
+
+    @Test
+    void testReopenCorrupted() throws Exception {
+        Path log = this.dir.resolve("corrupted.bin");
+        TrafficRecorder recorder = TrafficRecorder.of(log);
+        recorder.append(record("/a"));
+        recorder.append(record("/b"));
+        recorder.append(record("/c"));
+        recorder.close();
+
+        // Flips the last byte of the payload of the second record, the records have the same length.
+        long size = Files.size(log);
+        long recordSize = (size - TrafficCodec.HEADER_SIZE) / 3;
+        long second = TrafficCodec.HEADER_SIZE + recordSize;
+        long offset = second + recordSize - 4 - 1;
+        try (FileChannel channel = FileChannel.open(log, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, offset);
+            buffer.put(0, (byte) (buffer.get(0) ^ 0xFF));
+            buffer.rewind();
+            channel.write(buffer, offset);
+        }
+
+        UncheckedIOException e = Assertions.assertThrows(UncheckedIOException.class, () -> TrafficRecorder.of(log));
+        Assertions.assertTrue(e.getCause().getMessage().startsWith("Corrupted traffic record at offset " + second), e.getCause().getMessage());
+        Assertions.assertEquals(size, Files.size(log));
+        Assertions.assertThrows(IllegalStateException.class, () -> read(log, true));
+    }
+
+    @Test
+    void testReopenNotLog() throws Exception {
+        Path log = this.dir.resolve("short.bin");
+        Files.write(log, new byte[]{1, 2, 3});
+
+        UncheckedIOException e = Assertions.assertThrows(UncheckedIOException.class, () -> TrafficRecorder.of(log));
+        Assertions.assertEquals("Not a traffic log: " + log.toAbsolutePath().normalize(), e.getCause().getMessage());
+    }
+
+    private static TrafficRecord record(String route) {
+        return new TrafficRecord("GET", route, new LinkedMultiValueMap<>(), null,
+                200, new LinkedMultiValueMap<>(), route.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<TrafficRecord> read(Path log, boolean mapped) {
+        TrafficRecorder.flushAll();
+
+        List<TrafficRecord> records = new ArrayList<>();
+        for (TrafficRecord record : TrafficLog.open(log, mapped)) {
+            records.add(record);
+        }
+
+        return records;
+    }
+}
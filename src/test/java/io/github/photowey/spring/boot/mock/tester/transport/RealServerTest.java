@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.transport;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.core.domain.dto.GreetingDTO;
+import io.github.photowey.spring.boot.mock.tester.core.domain.payload.HelloPayload;
+import io.github.photowey.spring.boot.mock.tester.core.domain.query.HelloQuery;
+import io.github.photowey.spring.boot.mock.tester.core.domain.result.ApiResult;
+import io.github.photowey.spring.boot.mock.tester.load.LoadTestReport;
+import io.github.photowey.spring.boot.mock.tester.response.ResponseBody;
+import io.github.photowey.spring.boot.mock.tester.stream.StreamingResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code RealServerTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class RealServerTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private static final TypeReference<ApiResult<GreetingDTO>> GREETING_TYPE = new TypeReference<ApiResult<GreetingDTO>>() {};
+
+    @Override
+    protected boolean realServerEnabled() {
+        return true;
+    }
+
+    @Test
+    void testRequests() throws Exception {
+        super.tryGetHealth();
+        super.tryHeadHealth();
+
+        ApiResult<GreetingDTO> get = this.doGetRequest(new HelloQuery("photo wey"), METHODS_BASE_API + "/get", GREETING_TYPE);
+        Assertions.assertEquals("Hello get.photo wey", get.getData().getGreeting());
+
+        ApiResult<GreetingDTO> post = this.doPostRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/post", GREETING_TYPE);
+        Assertions.assertEquals("Hello post.photowey", post.getData().getGreeting());
+
+        this.doPostRequest(METHODS_BASE_API + "/post/empty/1711185600000");
+        this.doPutRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/put");
+        this.doDeleteRequest(new HelloPayload("photowey"), METHODS_BASE_API + "/delete");
+    }
+
+    @Test
+    void testOverSocket() throws Exception {
+        ResponseBody body = this.doRequestForBody(HttpMethod.GET, new HelloQuery("photowey"), METHODS_BASE_API + "/get");
+
+        // Written by the servlet container, never by MockMvc.
+        Assertions.assertNotNull(body.response().getHeader(HttpHeaders.DATE));
+        Assertions.assertNull(body.result().getHandler());
+        Assertions.assertEquals(200, this.lastTimings().status());
+    }
+
+    @Test
+    void testAsync() throws Exception {
+        ResponseBody body = this.doAsyncRequest(HttpMethod.GET, new HelloQuery("photowey"), METHODS_BASE_API + "/async/deferred")
+                .get(10, TimeUnit.SECONDS);
+
+        Assertions.assertEquals("Hello deferred.photowey", body.as(GREETING_TYPE).getData().getGreeting());
+    }
+
+    @Test
+    void testStream() throws Exception {
+        StreamingResult result = this.doStreamRequest(HttpMethod.GET, null, METHODS_BASE_API + "/stream/sse?count=100");
+
+        result.expectCount(100).expectFirstEventWithin(Duration.ofSeconds(5));
+        Assertions.assertEquals("99", result.events().get(99).id());
+    }
+
+    @Test
+    void testLoad() throws Exception {
+        LoadTestReport report = this.loadTest(HttpMethod.GET, METHODS_BASE_API + "/get", new HelloQuery("photowey"), 4, 200);
+
+        Assertions.assertEquals(200, report.requests());
+        Assertions.assertEquals(0, report.errors());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.spring.boot.mock.tester.warmup;
+
+import io.github.photowey.spring.boot.mock.tester.App;
+import io.github.photowey.spring.boot.mock.tester.LocalTest;
+import io.github.photowey.spring.boot.mock.tester.security.MockUser;
+import io.github.photowey.spring.boot.mock.tester.security.MockUsers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code WarmupTest}
+ *
+ * @author photowey
+ * @date 2026/10/17
+ * @since 1.2.0
+ */
+@SpringBootTest(classes = App.class)
+class WarmupTest extends LocalTest {
+
+    private static final String METHODS_BASE_API = "/api/v1";
+
+    private String mockUser;
+
+    @Override
+    protected String defaultMockUser() {
+        return this.mockUser;
+    }
+
+    @Override
+    protected List<String> warmupRoutes() {
+        return Arrays.asList(this.healthApi(), METHODS_BASE_API + "/get?name=warmup");
+    }
+
+    @Override
+    protected int warmupIterations() {
+        return 10;
+    }
+
+    @Test
+    void testWarmup() throws Exception {
+        WarmupReport report = this.warmupReport();
+
+        Assertions.assertNotNull(report);
+        Assertions.assertTrue(report.routes().stream().anyMatch((route) -> route.route().startsWith(METHODS_BASE_API)));
+        Assertions.assertTrue(report.routes().stream().allMatch((route) -> 10 == route.iterations()));
+
+        Assertions.assertNull(Warmups.warmup(this.applicationContext, this.currentMockMvc(), this.warmupRoutes(), this.warmupIterations()));
+        this.tryGetHealth();
+    }
+
+    @Test
+    void testWarmupAsDefaultMockUser() throws Exception {
+        List<String> routes = Collections.singletonList("/private/principal");
+        // Keeps the report of the context of the other tests.
+        ApplicationContext context = new GenericApplicationContext();
+
+        // Rejected by the security filter chain: nothing is warmed up.
+        IllegalStateException e = Assertions.assertThrows(IllegalStateException.class,
+                () -> Warmups.warmup(context, this.currentMockMvc(), routes, 2, this::newWarmupRequestBuilder));
+        Assertions.assertEquals("The warm-up request of /private/principal returned the status 403", e.getMessage());
+
+        MockUsers.register(MockUser.of("warmer").roles("ADMIN"));
+        this.mockUser = "warmer";
+        try {
+            WarmupReport report = Warmups.warmup(context, this.currentMockMvc(), routes, 2, this::newWarmupRequestBuilder);
+
+            Assertions.assertNotNull(report);
+            Assertions.assertEquals("/private/principal", report.routes().get(0).route());
+        } finally {
+            this.mockUser = null;
+            MockUsers.unregister("warmer");
+        }
+    }
+}